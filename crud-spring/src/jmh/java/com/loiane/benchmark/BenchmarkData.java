@@ -0,0 +1,92 @@
+package com.loiane.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.loiane.course.Course;
+import com.loiane.course.CoursePage;
+import com.loiane.course.Lesson;
+import com.loiane.course.dto.CoursePageDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.enums.Category;
+
+/**
+ * Payloads shaped like the ones the API receives and returns.
+ */
+final class BenchmarkData {
+
+    /**
+     * Course names as users type them: short and long, with digits, accents
+     * and the punctuation the validator allows.
+     */
+    static final String[] COURSE_NAMES = {
+            "Angular",
+            "Spring Boot 4 REST APIs",
+            "Java 25 - Records, Sealed Types & Pattern Matching",
+            "Introdução ao Desenvolvimento Web (HTML, CSS, JS)",
+            "C# .NET for Java Developers",
+            "Microservices with Spring Cloud, Kafka and Kubernetes - Part 2"
+    };
+
+    static final String[] YOUTUBE_IDS = { "Fj3Zvf-N4bk", "dQw4w9WgXcQ", "abcdefgh_12", "  x1Y2z3W4v5U  " };
+
+    private BenchmarkData() {
+    }
+
+    static CourseRequestDTO courseRequest(int lessons) {
+        List<LessonDTO> lessonDTOs = new ArrayList<>(lessons);
+        for (int i = 0; i < lessons; i++) {
+            lessonDTOs.add(new LessonDTO(null, "Lesson " + i + ": Getting Started", youtubeId(i)));
+        }
+        return new CourseRequestDTO(COURSE_NAMES[2], Category.BACK_END.getValue(), lessonDTOs);
+    }
+
+    /**
+     * A persisted-looking course (ids set) with the given number of lessons.
+     */
+    static Course course(int lessons) {
+        Course course = new Course();
+        course.setId(42L);
+        course.setName(COURSE_NAMES[2]);
+        course.setCategory(Category.BACK_END);
+        course.setVersion(3L);
+        for (int i = 0; i < lessons; i++) {
+            Lesson lesson = new Lesson();
+            lesson.setId(1000L + i);
+            lesson.setName("Lesson " + i + ": Getting Started");
+            lesson.setYoutubeUrl(youtubeId(i));
+            course.addLesson(lesson);
+        }
+        return course;
+    }
+
+    /**
+     * The first page of a catalog of 1000 courses, each with the given number
+     * of lessons, as the list endpoint returns it.
+     */
+    static CoursePage coursePage(int pageSize, int lessons) {
+        List<Course> courses = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Course course = course(lessons);
+            course.setId((long) i + 1);
+            course.setName(COURSE_NAMES[i % COURSE_NAMES.length]);
+            courses.add(course);
+        }
+        return new CoursePage(courses, 1000, (1000 + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * The page as the list endpoint used to return it: each course mapped to a
+     * DTO, for databind to write.
+     */
+    static CoursePageDTO toDTO(CoursePage page, CourseMapper courseMapper) {
+        return new CoursePageDTO(page.courses().stream().map(courseMapper::toDTO).toList(), page.totalElements(),
+                page.totalPages());
+    }
+
+    private static String youtubeId(int i) {
+        return String.format("vid%08d", i);
+    }
+}
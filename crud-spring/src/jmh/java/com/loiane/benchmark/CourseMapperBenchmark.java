@@ -0,0 +1,56 @@
+package com.loiane.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.loiane.course.Course;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+
+/**
+ * Entity/DTO mapping of a course, from one lesson to the largest courses we
+ * expect. Run with {@code -prof gc} to see the bytes allocated per mapping.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseMapperBenchmark {
+
+    @Param({ "1", "10", "100", "500" })
+    private int lessons;
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private Course course;
+    private CourseRequestDTO courseRequest;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkData.course(lessons);
+        courseRequest = BenchmarkData.courseRequest(lessons);
+    }
+
+    @Benchmark
+    public CourseDTO toDTO() {
+        return courseMapper.toDTO(course);
+    }
+
+    @Benchmark
+    public Course toModel() {
+        return courseMapper.toModel(courseRequest);
+    }
+}
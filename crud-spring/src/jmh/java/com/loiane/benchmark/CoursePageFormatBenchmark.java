@@ -0,0 +1,111 @@
+package com.loiane.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+
+import com.loiane.course.CoursePage;
+import com.loiane.course.CoursePageHttpMessageConverter;
+import com.loiane.course.dto.CoursePageDTO;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * A page of courses (10 lessons each) in each format the list endpoint
+ * serves: written by the server with {@link CoursePageHttpMessageConverter}
+ * and read back into a {@link CoursePageDTO}, as a Java client would. The {@code bytes}
+ * counter divided by the operations gives the size of a page in the format.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoursePageFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "10", "100", "1000" })
+    private int pageSize;
+
+    private ObjectMapper mapper;
+    private MediaType mediaType;
+    private CoursePageHttpMessageConverter converter;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private CoursePage page;
+    private byte[] encoded;
+
+    /**
+     * Bytes written or read, reported as a rate next to the pages per
+     * millisecond.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class PageBytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+        CBORMapper cborMapper = new CBORMapper();
+        SmileMapper smileMapper = new SmileMapper();
+        converter = new CoursePageHttpMessageConverter(jsonMapper, cborMapper, smileMapper);
+        switch (format) {
+            case "cbor" -> {
+                mapper = cborMapper;
+                mediaType = MediaType.APPLICATION_CBOR;
+            }
+            case "smile" -> {
+                mapper = smileMapper;
+                mediaType = CoursePageHttpMessageConverter.APPLICATION_SMILE;
+            }
+            default -> {
+                mapper = jsonMapper;
+                mediaType = MediaType.APPLICATION_JSON;
+            }
+        }
+        page = BenchmarkData.coursePage(pageSize, 10);
+        converter.write(page, mediaType, out);
+        encoded = out.toByteArray();
+    }
+
+    @Benchmark
+    public int write(PageBytes pageBytes) {
+        out.reset();
+        converter.write(page, mediaType, out);
+        pageBytes.bytes += out.size();
+        return out.size();
+    }
+
+    @Benchmark
+    public CoursePageDTO read(PageBytes pageBytes) {
+        pageBytes.bytes += encoded.length;
+        return mapper.readValue(encoded, CoursePageDTO.class);
+    }
+}
@@ -0,0 +1,92 @@
+package com.loiane.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+
+import com.loiane.course.CoursePage;
+import com.loiane.course.CoursePageHttpMessageConverter;
+import com.loiane.course.dto.mapper.CourseMapper;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * A page of courses written as JSON to a reused buffer: mapped to DTOs and
+ * written with databind, as the list endpoint used to, and written straight
+ * from the entities with {@link CoursePageHttpMessageConverter}. The {@code bytes}
+ * counter is the JSON written per millisecond; run with {@code -prof gc} to
+ * compare the bytes allocated per page ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoursePageSerializationBenchmark {
+
+    @Param({ "10", "100" })
+    private int pageSize;
+
+    @Param({ "1", "10", "100" })
+    private int lessons;
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final JsonMapper objectMapper = JsonMapper.builder().build();
+    private final CoursePageHttpMessageConverter converter = new CoursePageHttpMessageConverter(objectMapper,
+            new CBORMapper(), new SmileMapper());
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private CoursePage page;
+
+    /**
+     * JSON bytes written, reported as a rate next to the pages per millisecond.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class WrittenBytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.coursePage(pageSize, lessons);
+    }
+
+    @Benchmark
+    public int databind(WrittenBytes written) {
+        out.reset();
+        objectMapper.writeValue(out, BenchmarkData.toDTO(page, courseMapper));
+        written.bytes += out.size();
+        return out.size();
+    }
+
+    @Benchmark
+    public int converter(WrittenBytes written) {
+        out.reset();
+        converter.write(page, MediaType.APPLICATION_JSON, out);
+        written.bytes += out.size();
+        return out.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.loiane.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.loiane.course.enums.Category;
+import com.loiane.course.enums.Status;
+import com.loiane.course.enums.converters.CategoryConverter;
+import com.loiane.course.enums.converters.StatusConverter;
+
+/**
+ * Column value to enum conversions, done for every course row Hibernate loads
+ * and every category received by the API.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumConversionBenchmark {
+
+    private final CategoryConverter categoryConverter = new CategoryConverter();
+    private final StatusConverter statusConverter = new StatusConverter();
+    // not constants, so the lookups cannot be folded
+    private String frontEnd = "Front-end";
+    private String backEnd = "Back-end";
+    private String active = "Active";
+    private String inactive = "Inactive";
+    private Category category = Category.BACK_END;
+    private Status status = Status.ACTIVE;
+
+    @Benchmark
+    public void categoryToEntity(Blackhole blackhole) {
+        blackhole.consume(categoryConverter.convertToEntityAttribute(frontEnd));
+        blackhole.consume(categoryConverter.convertToEntityAttribute(backEnd));
+    }
+
+    @Benchmark
+    public String categoryToColumn() {
+        return categoryConverter.convertToDatabaseColumn(category);
+    }
+
+    @Benchmark
+    public void statusToEntity(Blackhole blackhole) {
+        blackhole.consume(statusConverter.convertToEntityAttribute(active));
+        blackhole.consume(statusConverter.convertToEntityAttribute(inactive));
+    }
+
+    @Benchmark
+    public String statusToColumn() {
+        return statusConverter.convertToDatabaseColumn(status);
+    }
+}
@@ -0,0 +1,118 @@
+package com.loiane.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.shared.validation.RegexCourseNameValidator;
+import com.loiane.shared.validation.ValidCourseNameValidator;
+import com.loiane.shared.validation.ValueOfEnum;
+import com.loiane.shared.validation.ValueOfEnumValidator;
+import com.loiane.shared.validation.YouTubeUrlValidator;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * The custom constraint validators on their own, and a whole course request
+ * through Bean Validation as the controllers do it.
+ *
+ * <p>The validators are called on valid input with a null context: that is
+ * the path every accepted request takes, and the context is only used to
+ * report a violation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private final ValidCourseNameValidator courseNameValidator = new ValidCourseNameValidator();
+    private final YouTubeUrlValidator youTubeUrlValidator = new YouTubeUrlValidator();
+    private final ValueOfEnumValidator valueOfEnumValidator = new ValueOfEnumValidator();
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        valueOfEnumValidator.initialize(
+                CourseRequestDTO.class.getDeclaredField("category").getAnnotation(ValueOfEnum.class));
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void courseName(Blackhole blackhole) {
+        for (String name : BenchmarkData.COURSE_NAMES) {
+            blackhole.consume(courseNameValidator.isValid(name, null));
+        }
+    }
+
+    /**
+     * The regex-based rules the course name validator used before, as a
+     * baseline for {@link #courseName(Blackhole)}.
+     */
+    @Benchmark
+    public void courseNameRegex(Blackhole blackhole) {
+        for (String name : BenchmarkData.COURSE_NAMES) {
+            blackhole.consume(RegexCourseNameValidator.check(name));
+        }
+    }
+
+    @Benchmark
+    public void youTubeUrl(Blackhole blackhole) {
+        for (String id : BenchmarkData.YOUTUBE_IDS) {
+            blackhole.consume(youTubeUrlValidator.isValid(id, null));
+        }
+    }
+
+    @Benchmark
+    public boolean valueOfEnum() {
+        return valueOfEnumValidator.isValid("Back-end", null);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CourseRequestDTO>> courseRequest(Payload payload) {
+        return validator.validate(payload.courseRequest);
+    }
+
+    /**
+     * Request sizes, only for the benchmark that validates a whole request.
+     */
+    @State(Scope.Benchmark)
+    public static class Payload {
+
+        @Param({ "1", "10", "100", "500" })
+        private int lessons;
+
+        private CourseRequestDTO courseRequest;
+
+        @Setup
+        public void setUp() {
+            courseRequest = BenchmarkData.courseRequest(lessons);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.loiane.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.http.converter.autoconfigure.ServerHttpMessageConvertersCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary alternatives to JSON for service-to-service clients: the API reads
+ * and writes CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) when asked to through the
+ * {@code Content-Type} and {@code Accept} headers, with the same shape as the
+ * JSON. The CBOR mapper is auto-configured ({@code spring.jackson.cbor.*});
+ * the Smile one is built here with the same modules.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatsConfig {
+
+    @Bean
+    SmileMapper smileMapper(ObjectProvider<JacksonModule> modules) {
+        return SmileMapper.builder().addModules(modules.orderedStream().toList()).build();
+    }
+
+    @Bean
+    ServerHttpMessageConvertersCustomizer binaryFormatsConvertersCustomizer(CBORMapper cborMapper,
+            SmileMapper smileMapper) {
+        return converters -> converters
+                .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper));
+    }
+}
@@ -0,0 +1,17 @@
+package com.loiane.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables annotation-driven caching. The cache manager itself (Caffeine) is
+ * auto-configured from the {@code spring.cache.*} properties.
+ *
+ * <p>The caching advice runs before the transaction advice, so a cache hit
+ * does not open a transaction or borrow a connection.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
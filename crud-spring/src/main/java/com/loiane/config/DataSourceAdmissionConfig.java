@@ -0,0 +1,78 @@
+package com.loiane.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.loiane.shared.datasource.AdmissionControlledDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Puts an {@link AdmissionControlledDataSource} in front of the connection
+ * pool. Enabled by {@code app.datasource.admission.enabled}, which follows
+ * {@code spring.threads.virtual.enabled} unless set explicitly.
+ *
+ * <p>{@code app.datasource.admission.max-concurrent} defaults to the Hikari
+ * pool size, and {@code app.datasource.admission.timeout} to Hikari's
+ * connection timeout (30s).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "app.datasource.admission.enabled", havingValue = "true")
+public class DataSourceAdmissionConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    // static: post-processors are created before the other beans of this class
+    @Bean
+    static BeanPostProcessor admissionControlledDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof AdmissionControlledDataSource)) {
+                    Binder binder = Binder.get(environment);
+                    int poolSize = binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class)
+                            .orElse(DEFAULT_POOL_SIZE);
+                    return new AdmissionControlledDataSource(dataSource,
+                            binder.bind("app.datasource.admission.max-concurrent", Integer.class).orElse(poolSize),
+                            binder.bind("app.datasource.admission.timeout", Duration.class).orElse(DEFAULT_TIMEOUT));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder dataSourceAdmissionMetrics(DataSource dataSource) {
+        return registry -> {
+            AdmissionControlledDataSource admission = unwrap(dataSource);
+            Gauge.builder("app.datasource.admission.active", admission, AdmissionControlledDataSource::getActive)
+                    .description("Callers holding a database connection")
+                    .register(registry);
+            Gauge.builder("app.datasource.admission.waiting", admission, AdmissionControlledDataSource::getWaiting)
+                    .description("Callers waiting for a database connection")
+                    .register(registry);
+            Gauge.builder("app.datasource.admission.max", admission, AdmissionControlledDataSource::getMaxConcurrent)
+                    .description("Maximum callers admitted at once")
+                    .register(registry);
+        };
+    }
+
+    private static AdmissionControlledDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(AdmissionControlledDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("The data source is not admission controlled", e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.loiane.config;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Hibernate second-level cache, kept in local Caffeine caches through JCache.
+ * Each region named in a {@code @Cache} annotation needs its size and TTL
+ * under {@code app.hibernate.cache.regions.<region>}
+ * ({@code maximum-size}, {@code time-to-live}); an unconfigured region fails
+ * the startup rather than growing without bound.
+ *
+ * <p>Region hit and miss counts are published with the other Hibernate
+ * statistics ({@code hibernate.second.level.cache.*}).
+ */
+@Configuration(proxyBeanMethods = false)
+public class HibernateCacheConfig {
+
+    static final String REGIONS = "app.hibernate.cache.regions";
+
+    @Bean(destroyMethod = "close")
+    CacheManager hibernateCacheManager(Environment environment) {
+        // a provider of its own rather than Caching's shared one, so each context gets its own caches
+        CaffeineCachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        Map<String, Region> regions = Binder.get(environment)
+                .bind(REGIONS, Bindable.mapOf(String.class, Region.class)).orElse(Map.of());
+        regions.forEach((name, region) -> cacheManager.createCache(name, new CaffeineConfiguration<>()
+                .setMaximumSize(OptionalLong.of(region.maximumSize()))
+                .setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()))
+                // Hibernate caches disassembled state, so there is nothing to copy
+                .setStoreByValue(false)));
+        return cacheManager;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    record Region(long maximumSize, Duration timeToLive) {
+    }
+}
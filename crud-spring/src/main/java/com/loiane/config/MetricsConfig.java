@@ -0,0 +1,44 @@
+package com.loiane.config;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.loiane.shared.metrics.HibernateStatisticsMetrics;
+import com.loiane.shared.metrics.SqlStatementCounter;
+import com.loiane.shared.metrics.SqlStatementMetricsFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Database metrics: SQL statements per request and Hibernate statistics.
+ * Service method timers come from {@code @Timed}
+ * ({@code management.observations.annotations.enabled}).
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Bean
+    SqlStatementMetricsFilter sqlStatementMetricsFilter(SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry) {
+        return new SqlStatementMetricsFilter(sqlStatementCounter, meterRegistry);
+    }
+
+    @Bean
+    HibernateStatisticsMetrics hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateStatisticsMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics());
+    }
+}
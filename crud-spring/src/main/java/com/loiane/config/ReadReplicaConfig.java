@@ -0,0 +1,154 @@
+package com.loiane.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import com.loiane.shared.datasource.ReadFromPrimaryAspect;
+import com.loiane.shared.datasource.ReadReplicaRoutingDataSource;
+import com.loiane.shared.datasource.ReadYourWritesFilter;
+import com.loiane.shared.datasource.ReplicaDataSource;
+import com.loiane.shared.datasource.ReplicaReadJpaDialect;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Sends read-only transactions to the read replicas listed in
+ * {@code app.datasource.read-replicas.urls} (comma-separated JDBC URLs), each
+ * with its own connection pool sized like the primary one.
+ *
+ * <p>Other options, under {@code app.datasource.read-replicas}:
+ * {@code username} and {@code password} (default: the primary's),
+ * {@code selection} ({@code round-robin}, the default, or
+ * {@code least-loaded}) and {@code primary-after-write}, how long a client
+ * keeps reading from the primary after a write (default 5s).
+ *
+ * <p>Caches must not keep what a lagging replica returned: methods that fill
+ * one read from the primary ({@link com.loiane.shared.datasource.ReadFromPrimary}),
+ * and reads served by a replica do not fill the Hibernate second-level cache
+ * ({@link ReplicaReadJpaDialect}).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty("app.datasource.read-replicas.urls")
+public class ReadReplicaConfig {
+
+    private static final String PREFIX = "app.datasource.read-replicas.";
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final Duration DEFAULT_PRIMARY_AFTER_WRITE = Duration.ofSeconds(5);
+
+    // ordered: routes the pool itself, before admission control wraps it
+    @Bean
+    static BeanPostProcessor readReplicaRoutingPostProcessor(Environment environment) {
+        return new OrderedPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ReadReplicaRoutingDataSource)) {
+                    return new ReadReplicaRoutingDataSource(dataSource, replicas(dataSource, Binder.get(environment)));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // before initialization: the factory only takes the vendor's dialect when none is set
+    @Bean
+    static BeanPostProcessor replicaReadJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    ReadFromPrimaryAspect readFromPrimaryAspect() {
+        return new ReadFromPrimaryAspect();
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(Environment environment) {
+        return new ReadYourWritesFilter(Binder.get(environment)
+                .bind(PREFIX + "primary-after-write", Duration.class).orElse(DEFAULT_PRIMARY_AFTER_WRITE));
+    }
+
+    @Bean
+    MeterBinder readReplicaMetrics(DataSource dataSource) {
+        return registry -> {
+            ReplicaDataSource replicas = unwrap(dataSource).getReplicas();
+            for (int i = 0; i < replicas.getReplicaCount(); i++) {
+                int replica = i;
+                Gauge.builder("app.datasource.replicas.active", replicas, r -> r.getActive(replica))
+                        .description("Connections of a read replica in use")
+                        .tag("replica", poolName(replica))
+                        .register(registry);
+            }
+            FunctionCounter.builder("app.datasource.replicas.primary.fallbacks", replicas,
+                    ReplicaDataSource::getPrimaryFallbacks)
+                    .description("Reads sent to the primary because no replica could be reached")
+                    .register(registry);
+        };
+    }
+
+    private static ReplicaDataSource replicas(DataSource primary, Binder binder) {
+        List<String> urls = binder.bind(PREFIX + "urls", Bindable.listOf(String.class)).get();
+        int poolSize = binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class)
+                .orElse(DEFAULT_POOL_SIZE);
+        List<DataSource> pools = new ArrayList<>(urls.size());
+        for (String url : urls) {
+            // not started until the first connection, so a replica that is down does not stop the app
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(poolName(pools.size()));
+            pool.setJdbcUrl(url);
+            pool.setUsername(binder.bind(PREFIX + "username", String.class)
+                    .orElseGet(() -> binder.bind("spring.datasource.username", String.class).orElse(null)));
+            pool.setPassword(binder.bind(PREFIX + "password", String.class)
+                    .orElseGet(() -> binder.bind("spring.datasource.password", String.class).orElse(null)));
+            pool.setMaximumPoolSize(poolSize);
+            pool.setReadOnly(true);
+            pools.add(pool);
+        }
+        ReplicaDataSource.Selection selection = binder.bind(PREFIX + "selection", ReplicaDataSource.Selection.class)
+                .orElse(ReplicaDataSource.Selection.ROUND_ROBIN);
+        return new ReplicaDataSource(primary, pools, selection);
+    }
+
+    private static String poolName(int replica) {
+        return "replica-" + (replica + 1);
+    }
+
+    private static ReadReplicaRoutingDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.unwrap(ReadReplicaRoutingDataSource.class);
+        } catch (SQLException e) {
+            throw new IllegalStateException("The data source does not route to read replicas", e);
+        }
+    }
+
+    private interface OrderedPostProcessor extends BeanPostProcessor, Ordered {
+
+        @Override
+        default int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
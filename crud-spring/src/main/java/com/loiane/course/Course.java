@@ -1,8 +1,18 @@
 package com.loiane.course;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.validator.constraints.Length;
@@ -13,6 +23,7 @@ import com.loiane.course.enums.converters.CategoryConverter;
 import com.loiane.course.enums.converters.StatusConverter;
 import com.loiane.shared.validation.ValidCourseName;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
@@ -22,18 +33,29 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
-@SQLDelete(sql = "UPDATE course SET status = 'Inactive' WHERE id=?")
+// the entity is versioned, so Hibernate binds the version after the id
+@SQLDelete(sql = "UPDATE course SET status = 'Inactive', version = version + 1 WHERE id = ? AND version = ?")
 @SQLRestriction("status <> 'Inactive'")
+// the soft delete goes through Hibernate, which evicts the course from the
+// second-level cache, so a cached course is always an active one
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 @Entity
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled ids (one sequence call per 50 rows) let Hibernate batch the inserts,
+    // which IDENTITY prevents; MySQL emulates the sequence with a table
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "course_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -53,12 +75,36 @@ public class Course {
     @Convert(converter = StatusConverter.class)
     private Status status = Status.ACTIVE;
 
+    /**
+     * Optimistic-locking version, also used as the course ETag. Bumped on every
+     * update of the course or its lessons (see
+     * {@link CourseRepository#findForUpdateById(Long)}).
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Lessons in id order. A list rather than a set: every lesson has the same
+     * hash code (see {@link Lesson#hashCode()}), which turns a hash set into a
+     * linear scan. Lookups by id go through {@link #findLesson(Long)}.
+     */
     @NotNull
     @NotEmpty
     @Valid
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("id")
-    private Set<Lesson> lessons = new HashSet<>();
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course-lessons")
+    private List<Lesson> lessons = new ArrayList<>();
+
+    /**
+     * Index of the persisted lessons by id, built on the first lookup and
+     * dropped when a lesson without an id is added (its id is only known once
+     * it is persisted).
+     */
+    @Transient
+    private Map<Long, Lesson> lessonsById;
 
     public Long getId() {
         return id;
@@ -92,16 +138,32 @@ public class Course {
         this.status = status;
     }
 
-    public Set<Lesson> getLessons() {
-        return lessons;
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
     }
 
-    public void setLessons(Set<Lesson> lessons) {
+    /**
+     * Read-only view of the lessons; use {@link #addLesson(Lesson)} and
+     * {@link #removeLesson(Lesson)} to change them.
+     */
+    public List<Lesson> getLessons() {
+        return Collections.unmodifiableList(lessons);
+    }
+
+    public void setLessons(Collection<Lesson> lessons) {
         if (lessons == null) {
             throw new IllegalArgumentException("Lessons cannot be null.");
         }
+        // copy first: the argument may be a view of this course's own lessons
+        List<Lesson> newLessons = List.copyOf(lessons);
+        this.lessons.forEach(lesson -> lesson.setCourse(null));
         this.lessons.clear();
-        lessons.forEach(this::addLesson);
+        this.lessonsById = null;
+        newLessons.forEach(this::addLesson);
     }
 
     public void addLesson(Lesson lesson) {
@@ -110,14 +172,56 @@ public class Course {
         }
         lesson.setCourse(this);
         this.lessons.add(lesson);
+        if (lessonsById != null) {
+            if (lesson.getId() == null) {
+                lessonsById = null;
+            } else {
+                lessonsById.put(lesson.getId(), lesson);
+            }
+        }
     }
 
     public void removeLesson(Lesson lesson) {
         if (lesson == null) {
             throw new IllegalArgumentException("Lesson cannot be null.");
         }
-        lesson.setCourse(null);
-        this.lessons.remove(lesson);
+        removeLessons(List.of(lesson));
+    }
+
+    /**
+     * Removes the given lessons in a single pass over the list, instead of one
+     * pass per lesson.
+     */
+    public void removeLessons(Collection<Lesson> lessonsToRemove) {
+        if (lessonsToRemove.isEmpty()) {
+            return;
+        }
+        // by identity: the entities' equals and hashCode are not meant for lookups
+        Set<Lesson> removed = Collections.newSetFromMap(new IdentityHashMap<>(lessonsToRemove.size()));
+        removed.addAll(lessonsToRemove);
+        this.lessons.removeIf(removed::contains);
+        for (Lesson lesson : removed) {
+            lesson.setCourse(null);
+            if (lessonsById != null && lesson.getId() != null) {
+                lessonsById.remove(lesson.getId());
+            }
+        }
+    }
+
+    /**
+     * The persisted lesson of this course with the given id.
+     */
+    public Optional<Lesson> findLesson(Long lessonId) {
+        if (lessonsById == null) {
+            Map<Long, Lesson> index = HashMap.newHashMap(lessons.size());
+            for (Lesson lesson : lessons) {
+                if (lesson.getId() != null) {
+                    index.put(lesson.getId(), lesson);
+                }
+            }
+            lessonsById = index;
+        }
+        return Optional.ofNullable(lessonsById.get(lessonId));
     }
 
 }
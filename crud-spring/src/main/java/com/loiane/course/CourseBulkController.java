@@ -0,0 +1,93 @@
+package com.loiane.course;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loiane.course.dto.CourseBulkDeleteResultDTO;
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseImportResultDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.enums.Category;
+import com.loiane.shared.validation.ValueOfEnum;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Bulk operations on the Course resource.
+ */
+@Validated
+@RestController
+@RequestMapping("api/courses")
+public class CourseBulkController {
+
+    private final CourseBulkService courseBulkService;
+    private final CourseBulkDeleteService courseBulkDeleteService;
+    private final CourseImportService courseImportService;
+
+    public CourseBulkController(CourseBulkService courseBulkService, CourseBulkDeleteService courseBulkDeleteService,
+            CourseImportService courseImportService) {
+        this.courseBulkService = courseBulkService;
+        this.courseBulkDeleteService = courseBulkDeleteService;
+        this.courseImportService = courseImportService;
+    }
+
+    /**
+     * Creates up to {@value CourseBulkService#MAX_BULK_SIZE} courses. The
+     * courses are validated one by one (not as a whole request), and the
+     * response lists the outcome of each, in request order.
+     */
+    @PostMapping("/bulk")
+    public List<CourseBulkResultDTO> createAll(
+            @RequestBody @NotEmpty @Size(max = CourseBulkService.MAX_BULK_SIZE) List<CourseRequestDTO> courses) {
+        return courseBulkService.createAll(courses);
+    }
+
+    /**
+     * Soft-deletes up to {@value CourseBulkService#MAX_BULK_SIZE} courses by
+     * id. The response lists, for each distinct id, whether the course was
+     * deleted or not found.
+     */
+    @PostMapping("/bulk-delete")
+    public List<CourseBulkDeleteResultDTO> deleteAll(
+            @RequestBody @NotEmpty @Size(max = CourseBulkService.MAX_BULK_SIZE) List<@NotNull @Positive Long> ids) {
+        return courseBulkDeleteService.deleteAll(ids);
+    }
+
+    /**
+     * Soft-deletes every course of a category, e.g.
+     * {@code DELETE /api/courses?category=Front-end}, and lists the deleted
+     * courses.
+     */
+    @DeleteMapping(params = "category")
+    public List<CourseBulkDeleteResultDTO> deleteCategory(
+            @RequestParam @NotBlank @ValueOfEnum(enumClass = Category.class) String category) {
+        return courseBulkDeleteService.deleteCategory(Category.fromValue(category));
+    }
+
+    /**
+     * Imports a UTF-8 CSV file sent as the raw request body, with one row per
+     * lesson (see {@link CourseImportService}). The body is read as it arrives,
+     * so large files are not buffered.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public CourseImportResultDTO importCsv(InputStream body) throws IOException {
+        try (InputStreamReader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            return courseImportService.importCsv(reader);
+        }
+    }
+}
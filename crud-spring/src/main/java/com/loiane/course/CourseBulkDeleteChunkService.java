@@ -0,0 +1,70 @@
+package com.loiane.course;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.loiane.course.enums.Category;
+import com.loiane.course.event.CourseDeletedEvent;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Soft-deletes one chunk of courses per transaction with set-based updates,
+ * for {@link CourseBulkDeleteService}. A bean of its own so that each call
+ * goes through the transactional proxy.
+ */
+@Service
+@Validated
+class CourseBulkDeleteChunkService {
+
+    private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    CourseBulkDeleteChunkService(CourseRepository courseRepository, LessonRepository lessonRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.courseRepository = courseRepository;
+        this.lessonRepository = lessonRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Soft-deletes the active courses among the given ids, and deletes their
+     * lessons, with one statement each, and returns their ids; the others are
+     * missing or already deleted.
+     */
+    @Transactional
+    public List<Long> deleteChunk(
+            @NotNull @NotEmpty @Size(max = CourseBulkService.MAX_BULK_SIZE) Collection<Long> ids) {
+        return softDelete(courseRepository.lockActiveIds(ids));
+    }
+
+    /**
+     * Soft-deletes up to {@code limit} active courses of the category, the
+     * first ones in id order, and returns their ids.
+     */
+    @Transactional
+    public List<Long> deleteCategoryChunk(@NotNull Category category,
+            @Positive @Max(CourseBulkService.MAX_BULK_SIZE) int limit) {
+        return softDelete(courseRepository.lockActiveIdsByCategory(category.getValue(), limit));
+    }
+
+    private List<Long> softDelete(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            // the lessons go as in a single delete, where the cascade removes them
+            lessonRepository.deleteAllByCourseIds(ids);
+            courseRepository.softDeleteAll(ids);
+            ids.forEach(id -> eventPublisher.publishEvent(new CourseDeletedEvent(id)));
+        }
+        return ids;
+    }
+}
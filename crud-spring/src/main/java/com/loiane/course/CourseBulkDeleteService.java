@@ -0,0 +1,81 @@
+package com.loiane.course;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import com.loiane.course.dto.CourseBulkDeleteResultDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.course.enums.Category;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Soft-deletes many courses at once, by id or by category, without loading
+ * them: each chunk of {@code app.bulk-delete.chunk-size} courses is one
+ * {@code UPDATE ... WHERE id IN (...)} in its own transaction (see
+ * {@link CourseBulkDeleteChunkService#deleteChunk}), so a failure part way
+ * through keeps the chunks already committed.
+ *
+ * <p>As with a single delete, the courses are only marked inactive and their
+ * lessons are deleted, with one {@code DELETE ... WHERE course_id IN (...)}
+ * per chunk.
+ */
+@Service
+@Validated
+public class CourseBulkDeleteService {
+
+    private final CourseBulkDeleteChunkService chunkService;
+    private final int chunkSize;
+
+    public CourseBulkDeleteService(CourseBulkDeleteChunkService chunkService,
+            @Value("${app.bulk-delete.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1 || chunkSize > CourseBulkService.MAX_BULK_SIZE) {
+            throw new IllegalArgumentException(
+                    "app.bulk-delete.chunk-size must be between 1 and " + CourseBulkService.MAX_BULK_SIZE);
+        }
+        this.chunkService = chunkService;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Deletes the courses with the given ids and reports, once per distinct id
+     * and in request order, whether it was deleted or not found (missing or
+     * already deleted).
+     */
+    public List<CourseBulkDeleteResultDTO> deleteAll(
+            @NotNull @NotEmpty @Size(max = CourseBulkService.MAX_BULK_SIZE) List<@NotNull Long> ids) {
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        Set<Long> deleted = new HashSet<>();
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            List<Long> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+            deleted.addAll(chunkService.deleteChunk(chunk));
+        }
+        return distinctIds.stream()
+                .map(id -> new CourseBulkDeleteResultDTO(id,
+                        deleted.contains(id) ? BulkOutcome.DELETED : BulkOutcome.NOT_FOUND))
+                .toList();
+    }
+
+    /**
+     * Deletes every active course of the category and lists them, in id order.
+     */
+    public List<CourseBulkDeleteResultDTO> deleteCategory(@NotNull Category category) {
+        List<CourseBulkDeleteResultDTO> results = new ArrayList<>();
+        List<Long> deleted;
+        do {
+            // deleted courses drop out of the next chunk's query
+            deleted = chunkService.deleteCategoryChunk(category, chunkSize);
+            deleted.forEach(id -> results.add(new CourseBulkDeleteResultDTO(id, BulkOutcome.DELETED)));
+        } while (deleted.size() == chunkSize);
+        return results;
+    }
+}
@@ -0,0 +1,132 @@
+package com.loiane.course;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.course.enums.Status;
+import com.loiane.course.event.CourseSavedEvent;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Creates many courses at once. Each course is validated on its own and gets
+ * its own result, so one bad course does not reject the others. Valid courses
+ * are inserted together in JDBC batches.
+ *
+ * <p>Bulk deletes go through {@link CourseBulkDeleteService}.
+ */
+@Service
+@Validated
+public class CourseBulkService {
+
+    public static final int MAX_BULK_SIZE = 1000;
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CourseBulkService(CourseRepository courseRepository, CourseMapper courseMapper, Validator validator,
+            ApplicationEventPublisher eventPublisher) {
+        this.courseRepository = courseRepository;
+        this.courseMapper = courseMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates the valid courses of the list and reports, in request order,
+     * whether each course was created, invalid, or a duplicate. A name is a
+     * duplicate when it is taken by an existing course (soft-deleted ones
+     * included) or by an earlier course of the same request; names are compared
+     * ignoring case, as the unique index does with the MySQL collation.
+     */
+    @Transactional
+    public List<CourseBulkResultDTO> createAll(
+            @NotNull @NotEmpty @Size(max = MAX_BULK_SIZE) List<CourseRequestDTO> requests) {
+        Set<String> takenNames = new HashSet<>();
+        List<String> names = requestedNames(requests);
+        if (!names.isEmpty()) {
+            courseRepository.findExistingNames(names).forEach(name -> takenNames.add(nameKey(name)));
+        }
+
+        CourseBulkResultDTO[] results = new CourseBulkResultDTO[requests.size()];
+        List<Course> courses = new ArrayList<>();
+        List<Integer> courseIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            CourseRequestDTO request = requests.get(i);
+            String violations = violations(request);
+            if (violations != null) {
+                results[i] = new CourseBulkResultDTO(i, null, BulkOutcome.INVALID, violations);
+            } else if (!takenNames.add(nameKey(request.name()))) {
+                results[i] = new CourseBulkResultDTO(i, null, BulkOutcome.DUPLICATE,
+                        "A course with name '" + request.name() + "' already exists");
+            } else {
+                Course course = courseMapper.toModel(request);
+                course.setStatus(Status.ACTIVE);
+                courses.add(course);
+                courseIndexes.add(i);
+            }
+        }
+
+        // ids come from the pooled sequences on persist; the inserts themselves
+        // are sent in batches (hibernate.jdbc.batch_size) on flush
+        courseRepository.saveAll(courses);
+        courseRepository.flush();
+
+        for (int i = 0; i < courses.size(); i++) {
+            CourseDTO courseDTO = courseMapper.toDTO(courses.get(i));
+            eventPublisher.publishEvent(new CourseSavedEvent(courseDTO));
+            int index = courseIndexes.get(i);
+            results[index] = new CourseBulkResultDTO(index, courseDTO.id(), BulkOutcome.CREATED, null);
+        }
+        return Arrays.asList(results);
+    }
+
+    private static List<String> requestedNames(List<CourseRequestDTO> requests) {
+        return requests.stream()
+                .filter(Objects::nonNull)
+                .map(CourseRequestDTO::name)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private String violations(CourseRequestDTO request) {
+        if (request == null) {
+            return "course: must not be null";
+        }
+        Set<ConstraintViolation<CourseRequestDTO>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,73 @@
+package com.loiane.course;
+
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loiane.course.event.CourseDeletedEvent;
+import com.loiane.course.event.CourseSavedEvent;
+import com.loiane.course.event.LessonDeletedEvent;
+import com.loiane.course.event.LessonSavedEvent;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Evicts a course from the {@link CourseService#COURSE_CACHE} cache once the
+ * transaction that created, updated or deleted it, or one of its lessons, has
+ * committed. Evicting after commit (rather than inside the service method)
+ * also drops anything a concurrent read cached while the write was still in
+ * flight; entries that slip through are bounded by the cache TTL.
+ *
+ * <p>Lesson changes also evict the course's lessons from the Hibernate
+ * second-level cache: {@link LessonService} only sets the owning side
+ * ({@link Lesson#setCourse(Course)}), which Hibernate does not reflect in the
+ * cached {@code Course.lessons} collection.
+ */
+@Component
+public class CourseCacheEvictor {
+
+    private static final String LESSONS_ROLE = Course.class.getName() + ".lessons";
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CourseCacheEvictor(CacheManager cacheManager, EntityManagerFactory entityManagerFactory) {
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @TransactionalEventListener
+    public void onCourseSaved(CourseSavedEvent event) {
+        evict(event.course().id());
+    }
+
+    @TransactionalEventListener
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        evict(event.id());
+    }
+
+    @TransactionalEventListener
+    public void onLessonSaved(LessonSavedEvent event) {
+        evict(event.courseId());
+        evictLessons(event.courseId());
+    }
+
+    @TransactionalEventListener
+    public void onLessonDeleted(LessonDeletedEvent event) {
+        evict(event.courseId());
+        evictLessons(event.courseId());
+    }
+
+    private void evict(Long id) {
+        Cache cache = cacheManager.getCache(CourseService.COURSE_CACHE);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void evictLessons(Long courseId) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictCollectionData(LESSONS_ROLE, courseId);
+    }
+}
@@ -2,7 +2,12 @@ package com.loiane.course;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,21 +15,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.loiane.course.dto.CourseCursorPageDTO;
 import com.loiane.course.dto.CourseDTO;
-import com.loiane.course.dto.CoursePageDTO;
 import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSliceDTO;
+import com.loiane.course.dto.CourseSummaryPageDTO;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 
 /**
- * Represents the REST API for the Course resource.
+ * Represents the REST API for the Course resource. Requests and responses are
+ * JSON, or CBOR or Smile for clients that ask for them (see
+ * {@link com.loiane.config.BinaryFormatsConfig}).
  */
 @Validated
 @RestController
@@ -37,10 +48,61 @@ public class CourseController {
         this.courseService = courseService;
     }
 
-    @GetMapping
-    public CoursePageDTO findAll(@RequestParam(defaultValue = "0") int page,
+    /**
+     * Offset page with totals. Supports conditional requests: the ETag is a
+     * fingerprint of the ids and versions on the page and of the format, so an
+     * unchanged page is answered with {@code 304 Not Modified} without loading
+     * the courses. The fingerprint is only queried on its own for a
+     * conditional request; a 200 carries the one of the courses it lists.
+     * {@code no-cache} lets browsers keep the response but revalidate it on
+     * every use. The body is written by {@link CoursePageHttpMessageConverter}
+     * from the course entities, in the shape of a
+     * {@link com.loiane.course.dto.CoursePageDTO}, in the format the client
+     * prefers among JSON, CBOR and Smile.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            CoursePageHttpMessageConverter.APPLICATION_SMILE_VALUE })
+    public ResponseEntity<CoursePage> findAll(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+            WebRequest request) {
+        MediaType mediaType = responseMediaType(accept);
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(eTag(courseService.findVersionTag(page, pageSize), mediaType))) {
+            return null;
+        }
+        VersionedCoursePage versionedPage = courseService.findVersionedPage(page, pageSize);
+        return ResponseEntity.ok().eTag(eTag(versionedPage.versionTag(), mediaType))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(mediaType)
+                .body(versionedPage.page());
+    }
+
+    /**
+     * Offset pagination without totals, selected by {@code count=false}: skips
+     * the count query and only reports whether a next page exists.
+     */
+    @GetMapping(params = { "count=false", "!after" })
+    public CourseSliceDTO findSlice(@RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int pageSize) {
+        return courseService.findSlice(page, pageSize);
+    }
+
+    /**
+     * Keyset pagination, selected by the {@code after} parameter: pass an empty
+     * value for the first page and the returned {@code nextCursor} afterwards.
+     */
+    @GetMapping(params = "after")
+    public CourseCursorPageDTO findAllAfter(@RequestParam(defaultValue = "") String after,
+            @RequestParam(defaultValue = "10") int pageSize) {
+        return courseService.findAllAfter(after, pageSize);
+    }
+
+    @GetMapping("/summary")
+    public CourseSummaryPageDTO findSummaries(@RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int pageSize) {
-        return courseService.findAll(page, pageSize);
+        return courseService.findSummaries(page, pageSize);
     }
 
     @GetMapping("/searchByName")
@@ -48,9 +110,29 @@ public class CourseController {
         return courseService.findByName(name);
     }
 
-    @GetMapping("/{id}")
-    public CourseDTO findById(@PathVariable @Positive Long id) {
-        return courseService.findById(id);
+    /**
+     * Supports conditional requests: the ETag is derived from the course
+     * version and the format. For a conditional request the version is checked
+     * before the course itself is read; otherwise the course comes straight
+     * from the cache. The body is JSON, CBOR or Smile, as the client prefers.
+     */
+    @GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+            CoursePageHttpMessageConverter.APPLICATION_SMILE_VALUE })
+    public ResponseEntity<CourseDTO> findById(@PathVariable @Positive Long id,
+            @RequestHeader(name = HttpHeaders.ACCEPT, defaultValue = MediaType.ALL_VALUE) String accept,
+            WebRequest request) {
+        MediaType mediaType = responseMediaType(accept);
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(eTag(id + "-" + courseService.findVersion(id), mediaType))) {
+            return null;
+        }
+        VersionedCourse versionedCourse = courseService.findVersionedById(id);
+        return ResponseEntity.ok()
+                .eTag(eTag(id + "-" + versionedCourse.version(), mediaType))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(mediaType)
+                .body(versionedCourse.course());
     }
 
     @PostMapping
@@ -70,4 +152,33 @@ public class CourseController {
     public void delete(@PathVariable @Positive Long id) {
         courseService.delete(id);
     }
+
+    /**
+     * The first of the response formats the client accepts, in its order of
+     * preference (quality, then specificity). The {@code produces} condition
+     * of the mapping has already checked that there is one.
+     */
+    private static MediaType responseMediaType(String accept) {
+        List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType acceptedType : accepted) {
+            for (MediaType mediaType : CoursePageHttpMessageConverter.MEDIA_TYPES) {
+                if (acceptedType.includes(mediaType)) {
+                    return mediaType;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * A strong ETag may only be shared by byte-identical responses, so the
+     * format is part of it: {@code "<tag>-json"}, {@code "<tag>-cbor"} or
+     * {@code "<tag>-smile"}.
+     */
+    private static String eTag(String tag, MediaType mediaType) {
+        String format = CoursePageHttpMessageConverter.APPLICATION_SMILE.equals(mediaType) ? "smile"
+                : mediaType.getSubtype();
+        return "\"" + tag + "-" + format + "\"";
+    }
 }
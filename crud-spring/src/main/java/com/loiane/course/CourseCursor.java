@@ -0,0 +1,47 @@
+package com.loiane.course;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.loiane.exception.InvalidCursorException;
+
+/**
+ * Opaque cursor for the keyset listing. It wraps the id of the last course
+ * of a page, so the next page can seek past it on the primary key index
+ * instead of skipping rows with OFFSET.
+ */
+final class CourseCursor {
+
+    private static final String PREFIX = "course:";
+
+    private CourseCursor() {
+    }
+
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the id to seek after; an empty cursor means the first page.
+     */
+    static long decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!value.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            long lastId = Long.parseLong(value.substring(PREFIX.length()));
+            if (lastId < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {
+            // covers malformed Base64 and NumberFormatException
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
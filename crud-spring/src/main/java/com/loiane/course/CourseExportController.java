@@ -0,0 +1,60 @@
+package com.loiane.course;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loiane.course.dto.CourseDTO;
+
+import jakarta.servlet.http.HttpServletResponse;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Exports the whole course catalog as newline-delimited JSON, one course with
+ * its lessons per line.
+ */
+@RestController
+@RequestMapping("api/courses")
+public class CourseExportController {
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final CourseService courseService;
+    private final ObjectMapper objectMapper;
+
+    public CourseExportController(CourseService courseService, ObjectMapper objectMapper) {
+        this.courseService = courseService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Each course is written to the response as soon as it is read, so the
+     * export starts immediately and its memory use does not depend on the size
+     * of the catalog.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("courses.ndjson").build().toString());
+        OutputStream out = response.getOutputStream();
+        courseService.exportAll(course -> writeLine(out, course));
+        out.flush();
+    }
+
+    private void writeLine(OutputStream out, CourseDTO course) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(course));
+            out.write(LINE_SEPARATOR);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.loiane.course;
+
+import com.loiane.course.enums.Category;
+
+/**
+ * One course/lesson row read by the catalog export. The lesson fields are null
+ * for a course without lessons.
+ */
+public record CourseExportRow(Long courseId, String courseName, Category category,
+        Long lessonId, String lessonName, String youtubeUrl) {
+}
@@ -0,0 +1,226 @@
+package com.loiane.course;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseImportErrorDTO;
+import com.loiane.course.dto.CourseImportResultDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.shared.csv.CsvFormatException;
+import com.loiane.shared.csv.CsvReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Imports courses and lessons from a CSV file with one row per lesson:
+ * {@code course_name,category,lesson_name,youtube_id}, after a header row.
+ *
+ * <p>The file is read row by row and never held in memory. Rows of the same
+ * course must be contiguous; each course is validated with the same rules as
+ * the API, and is imported as a whole or rejected as a whole. Valid courses
+ * are created through {@link CourseBulkService} in chunks of
+ * {@code app.import.chunk-size} courses, each chunk in its own transaction, so
+ * a failure part way through keeps the chunks already committed.
+ */
+@Service
+public class CourseImportService {
+
+    static final List<String> HEADER = List.of("course_name", "category", "lesson_name", "youtube_id");
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private final CourseBulkService courseBulkService;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public CourseImportService(CourseBulkService courseBulkService, Validator validator,
+            @Value("${app.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1 || chunkSize > CourseBulkService.MAX_BULK_SIZE) {
+            throw new IllegalArgumentException(
+                    "app.import.chunk-size must be between 1 and " + CourseBulkService.MAX_BULK_SIZE);
+        }
+        this.courseBulkService = courseBulkService;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Imports the CSV read from the given reader. A file that cannot be parsed
+     * or lacks the expected header stops the import with a
+     * {@link CsvFormatException}; invalid courses are only reported.
+     */
+    public CourseImportResultDTO importCsv(Reader reader) {
+        try (CsvReader csv = new CsvReader(reader)) {
+            readHeader(csv);
+            Import state = new Import();
+            PendingCourse course = null;
+            List<String> row;
+            while ((row = csv.readRecord()) != null) {
+                if (row.size() == 1 && row.get(0).isBlank()) {
+                    continue;
+                }
+                state.rows++;
+                long line = csv.getRecordLine();
+                String name = row.get(0).strip();
+                if (course == null || !course.name.equals(name)) {
+                    state.add(course);
+                    course = new PendingCourse(name, row.size() > 1 ? row.get(1).strip() : "", line);
+                }
+                course.addRow(row, line);
+            }
+            state.add(course);
+            state.flush();
+            return state.result();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the CSV file", e);
+        }
+    }
+
+    private static void readHeader(CsvReader csv) throws IOException {
+        List<String> header = csv.readRecord();
+        List<String> names = header == null ? List.of()
+                : header.stream().map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+        if (!names.equals(HEADER)) {
+            throw new CsvFormatException(1, "expected the header " + String.join(",", HEADER));
+        }
+    }
+
+    /**
+     * Counters and the current chunk of an import in progress.
+     */
+    private final class Import {
+
+        private final List<PendingCourse> chunk = new ArrayList<>(chunkSize);
+        private final List<CourseImportErrorDTO> errors = new ArrayList<>();
+        private long rows;
+        private long coursesCreated;
+        private long lessonsCreated;
+        private long coursesRejected;
+
+        void add(PendingCourse course) {
+            if (course == null) {
+                return;
+            }
+            if (course.error != null) {
+                reject(course.errorLine, course.error);
+                return;
+            }
+            String violations = courseViolations(course.toRequest());
+            if (violations != null) {
+                reject(course.line, violations);
+                return;
+            }
+            chunk.add(course);
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<CourseBulkResultDTO> results = courseBulkService.createAll(
+                    chunk.stream().map(PendingCourse::toRequest).toList());
+            for (CourseBulkResultDTO result : results) {
+                PendingCourse course = chunk.get(result.index());
+                if (result.outcome() == BulkOutcome.CREATED) {
+                    coursesCreated++;
+                    lessonsCreated += course.lessons.size();
+                } else {
+                    reject(course.line, result.message());
+                }
+            }
+            chunk.clear();
+        }
+
+        private void reject(long line, String message) {
+            coursesRejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new CourseImportErrorDTO(line, message));
+            }
+        }
+
+        CourseImportResultDTO result() {
+            return new CourseImportResultDTO(rows, coursesCreated, lessonsCreated, coursesRejected,
+                    List.copyOf(errors));
+        }
+    }
+
+    /**
+     * Checks the course-level fields; lessons are checked row by row as they
+     * are read.
+     */
+    private String courseViolations(CourseRequestDTO request) {
+        return describe(Stream.concat(
+                validator.validateProperty(request, "name").stream(),
+                validator.validateProperty(request, "category").stream()));
+    }
+
+    private static String describe(Stream<? extends ConstraintViolation<?>> violations) {
+        String description = violations
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return description.isEmpty() ? null : description;
+    }
+
+    /**
+     * A course being read from the file, rejected at its first bad row.
+     */
+    private final class PendingCourse {
+
+        private final String name;
+        private final String category;
+        private final long line;
+        private final List<LessonDTO> lessons = new ArrayList<>();
+        private String error;
+        private long errorLine;
+
+        PendingCourse(String name, String category, long line) {
+            this.name = name;
+            this.category = category;
+            this.line = line;
+        }
+
+        void addRow(List<String> row, long rowLine) {
+            if (error != null) {
+                return;
+            }
+            if (row.size() != HEADER.size()) {
+                reject(rowLine, "expected " + HEADER.size() + " columns but found " + row.size());
+            } else if (!row.get(1).strip().equals(category)) {
+                reject(rowLine, "category differs from the first row of the course");
+            } else {
+                LessonDTO lesson = new LessonDTO(null, row.get(2).strip(), row.get(3).strip());
+                String violations = describe(validator.validate(lesson).stream());
+                if (violations != null) {
+                    reject(rowLine, violations);
+                } else {
+                    lessons.add(lesson);
+                }
+            }
+        }
+
+        private void reject(long rowLine, String message) {
+            error = message;
+            errorLine = rowLine;
+        }
+
+        CourseRequestDTO toRequest() {
+            return new CourseRequestDTO(name, category, lessons);
+        }
+    }
+}
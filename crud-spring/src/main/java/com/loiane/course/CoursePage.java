@@ -0,0 +1,13 @@
+package com.loiane.course;
+
+import java.util.List;
+
+/**
+ * A page of courses as loaded by {@link CourseService}, with their lessons
+ * initialized in its read-only transaction. Written to the response by
+ * {@link CoursePageHttpMessageConverter} in the shape of a
+ * {@link com.loiane.course.dto.CoursePageDTO}, without mapping the courses
+ * to DTOs first.
+ */
+public record CoursePage(List<Course> courses, long totalElements, int totalPages) {
+}
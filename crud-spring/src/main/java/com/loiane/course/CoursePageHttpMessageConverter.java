@@ -0,0 +1,162 @@
+package com.loiane.course;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import com.loiane.course.enums.Category;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Writes course pages to the response as JSON, CBOR or Smile with a Jackson
+ * {@link JsonGenerator}, straight from the {@link Course} and {@link Lesson}
+ * entities, property by property with pre-encoded names: no DTO is built and
+ * databind is not involved. The output is what the mapper of the format
+ * writes for the {@link com.loiane.course.dto.CoursePageDTO} of the same
+ * courses: same properties, in the same order. Pages are never read, so
+ * reading is left to the other converters.
+ *
+ * <p>Being a converter bean, it is registered ahead of the Jackson converters
+ * of {@link com.loiane.config.BinaryFormatsConfig}.
+ */
+@Component
+public class CoursePageHttpMessageConverter extends AbstractHttpMessageConverter<CoursePage> {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    /**
+     * The formats a page can be written in, JSON first as the default.
+     */
+    public static final List<MediaType> MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private static final SerializableString COURSES = new SerializedString("courses");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString ID = new SerializedString("_id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString LESSONS = new SerializedString("lessons");
+    private static final SerializableString YOUTUBE_URL = new SerializedString("youtubeUrl");
+
+    private final JsonMapper jsonMapper;
+    private final CBORMapper cborMapper;
+    private final SmileMapper smileMapper;
+
+    public CoursePageHttpMessageConverter(JsonMapper jsonMapper, CBORMapper cborMapper, SmileMapper smileMapper) {
+        super(MEDIA_TYPES.toArray(MediaType[]::new));
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = cborMapper;
+        this.smileMapper = smileMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return CoursePage.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected CoursePage readInternal(Class<? extends CoursePage> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Course pages are only written", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(CoursePage page, HttpOutputMessage outputMessage) throws IOException {
+        write(page, outputMessage.getHeaders().getContentType(), outputMessage.getBody());
+    }
+
+    /**
+     * Writes the page to the stream in the given format, one of
+     * {@link #MEDIA_TYPES}, and leaves the stream open. The lessons of the
+     * courses must be initialized.
+     */
+    public void write(CoursePage page, MediaType mediaType, OutputStream out) {
+        try (JsonGenerator generator = mapperFor(mediaType).createGenerator(StreamUtils.nonClosing(out))) {
+            writePage(page, generator);
+        }
+    }
+
+    private ObjectMapper mapperFor(MediaType mediaType) {
+        if (MediaType.APPLICATION_JSON.isCompatibleWith(mediaType)) {
+            return jsonMapper;
+        }
+        if (MediaType.APPLICATION_CBOR.isCompatibleWith(mediaType)) {
+            return cborMapper;
+        }
+        if (APPLICATION_SMILE.isCompatibleWith(mediaType)) {
+            return smileMapper;
+        }
+        throw new IllegalArgumentException("Course pages cannot be written as " + mediaType);
+    }
+
+    private static void writePage(CoursePage page, JsonGenerator generator) {
+        generator.writeStartObject();
+        generator.writeName(COURSES);
+        List<Course> courses = page.courses();
+        generator.writeStartArray(courses, courses.size());
+        for (Course course : courses) {
+            writeCourse(course, generator);
+        }
+        generator.writeEndArray();
+        generator.writeName(TOTAL_ELEMENTS);
+        generator.writeNumber(page.totalElements());
+        generator.writeName(TOTAL_PAGES);
+        generator.writeNumber(page.totalPages());
+        generator.writeEndObject();
+    }
+
+    private static void writeCourse(Course course, JsonGenerator generator) {
+        generator.writeStartObject();
+        writeId(course.getId(), generator);
+        writeString(NAME, course.getName(), generator);
+        Category category = course.getCategory();
+        writeString(CATEGORY, category == null ? null : category.getValue(), generator);
+        generator.writeName(LESSONS);
+        List<Lesson> lessons = course.getLessons();
+        generator.writeStartArray(lessons, lessons.size());
+        for (Lesson lesson : lessons) {
+            generator.writeStartObject();
+            writeId(lesson.getId(), generator);
+            writeString(NAME, lesson.getName(), generator);
+            writeString(YOUTUBE_URL, lesson.getYoutubeUrl(), generator);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private static void writeId(Long id, JsonGenerator generator) {
+        generator.writeName(ID);
+        if (id == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(id);
+        }
+    }
+
+    private static void writeString(SerializableString name, String value, JsonGenerator generator) {
+        generator.writeName(name);
+        generator.writeString(value);
+    }
+}
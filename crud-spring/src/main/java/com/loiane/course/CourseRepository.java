@@ -1,25 +1,148 @@
 package com.loiane.course;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.loiane.course.dto.CourseSummaryDTO;
+import com.loiane.course.search.CourseSearchRow;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
     /**
-     * Finds courses by exact name, bypassing the SQLRestriction so soft-deleted
-     * courses are included. Used to enforce unique course names, mirroring the
-     * unique constraint on the name column, which also covers soft-deleted rows.
+     * The subset of the given names already used by a course, soft-deleted ones
+     * included, as the unique constraint on the name column covers them too.
+     * Lets a bulk create check all its names with one query.
      */
-    @Query(value = "SELECT * FROM course WHERE name = :name", nativeQuery = true)
-    List<Course> findByNameIgnoringRestriction(@Param("name") String name);
+    @Query(value = "SELECT name FROM course WHERE name IN (:names)", nativeQuery = true)
+    List<String> findExistingNames(@Param("names") Collection<String> names);
 
     /**
      * Case-insensitive partial-match search, used by the search endpoint. The
      * result is capped so a broad query cannot return the whole table.
      */
     List<Course> findByNameContainingIgnoreCase(String name, Limit limit);
+
+    /**
+     * Offset page without the count query that {@code findAll(Pageable)} runs:
+     * Spring Data fetches one extra row to tell whether a next page exists.
+     */
+    Slice<Course> findAllBy(Pageable pageable);
+
+    /**
+     * Course summaries projected straight into DTOs: no Course or Lesson
+     * entity is loaded, and lessons are only aggregated into a count.
+     */
+    @Query(value = """
+            SELECT new com.loiane.course.dto.CourseSummaryDTO(c.id, c.name, c.category, COUNT(l))
+            FROM Course c LEFT JOIN c.lessons l
+            GROUP BY c.id, c.name, c.category
+            ORDER BY c.id
+            """, countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseSummaryDTO> findSummaries(Pageable pageable);
+
+    /**
+     * Loads a course that is about to be modified. The version is incremented
+     * on commit even when only its lessons change, which the course row itself
+     * would not reflect.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    Optional<Course> findForUpdateById(Long id);
+
+    /**
+     * The active courses among the given ids, locked until the end of the
+     * transaction so that {@link #softDeleteAll(Collection)} updates
+     * exactly these rows.
+     */
+    @Query(value = "SELECT id FROM course WHERE id IN (:ids) AND status <> 'Inactive' FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockActiveIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * The first active courses of a category, in id order, locked as in
+     * {@link #lockActiveIds(Collection)}. Takes the category's display value.
+     */
+    @Query(value = """
+            SELECT id FROM course WHERE category = :category AND status <> 'Inactive'
+            ORDER BY id LIMIT :limit FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockActiveIdsByCategory(@Param("category") String category, @Param("limit") int limit);
+
+    /**
+     * Soft-deletes the given courses with one statement, as {@code @SQLDelete}
+     * does for a single course, without loading them. A JPQL update, so
+     * Hibernate only invalidates the course cache region. Their lessons are
+     * deleted separately (see {@link LessonRepository#deleteAllByCourseIds}).
+     */
+    @Modifying
+    @Query("""
+            UPDATE Course c SET c.status = com.loiane.course.enums.Status.INACTIVE, c.version = c.version + 1
+            WHERE c.id IN :ids
+            """)
+    int softDeleteAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Current version of an active course, without loading the entity.
+     */
+    @Query("SELECT c.version FROM Course c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Id and version of each course of a page, in the same order as
+     * {@code findAll(Pageable)} with the same pageable.
+     */
+    @Query(value = "SELECT new com.loiane.course.CourseVersionRow(c.id, c.version) FROM Course c",
+            countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseVersionRow> findVersions(Pageable pageable);
+
+    /**
+     * Keyset (seek) page: the courses that come after the given id, in id
+     * order. Seeking on the primary key keeps deep pages as cheap as the first
+     * one, unlike OFFSET pagination.
+     */
+    List<Course> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Every active course name with its lesson names, one row per lesson, in
+     * course order. Streamed so the search index can be rebuilt without
+     * loading the whole catalog as entities; must be consumed inside a
+     * transaction.
+     */
+    @Query("""
+            SELECT new com.loiane.course.search.CourseSearchRow(c.id, c.name, l.id, l.name)
+            FROM Course c LEFT JOIN c.lessons l
+            ORDER BY c.id, l.id
+            """)
+    Stream<CourseSearchRow> streamSearchRows();
+
+    /**
+     * The whole catalog as flat course/lesson rows, ordered so that the rows of
+     * a course are contiguous. Scalar rows are not tracked by the persistence
+     * context and the result is read through a forward-only cursor in batches
+     * of the fetch size, so memory use does not grow with the catalog. Must be
+     * consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+            SELECT new com.loiane.course.CourseExportRow(c.id, c.name, c.category, l.id, l.name, l.youtubeUrl)
+            FROM Course c LEFT JOIN c.lessons l
+            ORDER BY c.id, l.id
+            """)
+    Stream<CourseExportRow> streamExportRows();
 }
@@ -1,23 +1,52 @@
 package com.loiane.course;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import com.loiane.course.dto.CourseCursorPageDTO;
 import com.loiane.course.dto.CourseDTO;
-import com.loiane.course.dto.CoursePageDTO;
 import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSliceDTO;
+import com.loiane.course.dto.CourseSummaryDTO;
+import com.loiane.course.dto.CourseSummaryPageDTO;
 import com.loiane.course.dto.LessonDTO;
 import com.loiane.course.dto.mapper.CourseMapper;
 import com.loiane.course.enums.Status;
+import com.loiane.course.event.CourseDeletedEvent;
+import com.loiane.course.event.CourseSavedEvent;
+import com.loiane.course.search.CourseSearchService;
 import com.loiane.exception.BusinessException;
 import com.loiane.exception.RecordNotFoundException;
+import com.loiane.shared.datasource.ReadFromPrimary;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
@@ -27,103 +56,269 @@ import jakarta.validation.constraints.PositiveOrZero;
 
 @Service
 @Validated
+@Timed(value = "course.service", percentiles = { 0.5, 0.95, 0.99 }, histogram = true)
 public class CourseService {
 
+    /**
+     * Cache of {@link VersionedCourse} by course id, read through by
+     * {@link #findVersionedById(Long)} and evicted by {@link CourseCacheEvictor}.
+     */
+    public static final String COURSE_CACHE = "courses";
+
+    /**
+     * Time spent in each phase of the service methods, tagged with the
+     * {@code method} and the {@code phase}. The whole method is timed by
+     * {@code course.service}.
+     */
+    public static final String PHASE_TIMER = "course.service.phase";
+
     private static final int MAX_SEARCH_RESULTS = 50;
+    // findVersionedPage, findVersionTag and findSlice must list a page in the same order
+    private static final Sort BY_ID = Sort.by("id");
 
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final CourseSearchService courseSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Meter.MeterProvider<Timer> phaseTimers;
 
-    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper) {
+    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper,
+            CourseSearchService courseSearchService, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.courseSearchService = courseSearchService;
+        this.eventPublisher = eventPublisher;
+        this.phaseTimers = Timer.builder(PHASE_TIMER)
+                .description("Time spent in each phase of a course service method")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * The page of courses with the version tag of the courses it lists, both
+     * read in one transaction so the tag always describes the body. The tag is
+     * the one {@link #findVersionTag(int, int)} computes for the same page.
+     * The courses are returned as entities, lessons included, for
+     * {@link CoursePageHttpMessageConverter} to write.
+     */
+    @Transactional(readOnly = true)
+    public VersionedCoursePage findVersionedPage(@PositiveOrZero int page, @Positive @Max(1000) int pageSize) {
+        Page<Course> courses = courseRepository.findAll(PageRequest.of(page, pageSize, BY_ID));
+        String versionTag = versionTag(page, pageSize, courses.getTotalElements(),
+                courses.map(course -> new CourseVersionRow(course.getId(), course.getVersion())));
+        // loads the lessons, in batches, while the transaction is open: the
+        // page is written to the response after it ends
+        phase("findVersionedPage", "lessons").record(() -> courses.forEach(course -> course.getLessons().size()));
+        return new VersionedCoursePage(new CoursePage(courses.getContent(), courses.getTotalElements(),
+                courses.getTotalPages()), versionTag);
+    }
+
+    /**
+     * Fingerprint of the page {@link #findVersionedPage(int, int)} would
+     * return, computed from the ids and versions of its courses and the total
+     * count, without loading any lesson; for conditional requests only.
+     * Changes whenever a course on the page is updated or the page contents
+     * shift.
+     */
+    @Transactional(readOnly = true)
+    public String findVersionTag(@PositiveOrZero int page, @Positive @Max(1000) int pageSize) {
+        Page<CourseVersionRow> versions = courseRepository.findVersions(PageRequest.of(page, pageSize, BY_ID));
+        return versionTag(page, pageSize, versions.getTotalElements(), versions);
+    }
+
+    private static String versionTag(int page, int pageSize, long total, Iterable<CourseVersionRow> rows) {
+        StringBuilder content = new StringBuilder()
+                .append(page).append(':').append(pageSize).append(':').append(total);
+        rows.forEach(row -> content.append(';').append(row.id()).append(':').append(row.version()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
+    /**
+     * Same page as {@link #findVersionedPage(int, int)} but without totals, so
+     * the list is served by a single query instead of the page query plus a
+     * count.
+     */
     @Transactional(readOnly = true)
-    public CoursePageDTO findAll(@PositiveOrZero int page, @Positive @Max(1000) int pageSize) {
-        Page<CourseDTO> coursePage = courseRepository.findAll(PageRequest.of(page, pageSize))
+    public CourseSliceDTO findSlice(@PositiveOrZero int page, @Positive @Max(1000) int pageSize) {
+        Slice<CourseDTO> courseSlice = courseRepository.findAllBy(PageRequest.of(page, pageSize, BY_ID))
                 .map(courseMapper::toDTO);
-        return new CoursePageDTO(coursePage.getContent(), coursePage.getTotalElements(),
-                coursePage.getTotalPages());
+        return new CourseSliceDTO(courseSlice.getContent(), courseSlice.hasNext());
     }
 
+    /**
+     * Lightweight listing: id, name, category and lesson count only, read
+     * from a projection so no lesson rows are loaded.
+     */
+    @Transactional(readOnly = true)
+    public CourseSummaryPageDTO findSummaries(@PositiveOrZero int page, @Positive @Max(1000) int pageSize) {
+        Page<CourseSummaryDTO> summaryPage = courseRepository.findSummaries(PageRequest.of(page, pageSize));
+        return new CourseSummaryPageDTO(summaryPage.getContent(), summaryPage.getTotalElements(),
+                summaryPage.getTotalPages());
+    }
+
+    /**
+     * Keyset pagination: returns the page that follows the given cursor (an
+     * empty cursor means the first page). One extra row is fetched to know
+     * whether there is a next page without running a count query.
+     */
+    @Transactional(readOnly = true)
+    public CourseCursorPageDTO findAllAfter(@NotNull String cursor, @Positive @Max(1000) int pageSize) {
+        long lastId = CourseCursor.decode(cursor);
+        List<Course> courses = courseRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(pageSize + 1));
+        boolean hasNext = courses.size() > pageSize;
+        List<CourseDTO> page = courses.stream()
+                .limit(pageSize)
+                .map(courseMapper::toDTO)
+                .toList();
+        String nextCursor = hasNext ? CourseCursor.encode(page.getLast().id()) : null;
+        return new CourseCursorPageDTO(page, nextCursor);
+    }
+
+    /**
+     * Hands every active course, with its lessons, to the consumer in id order.
+     * The catalog is read in a single read-only transaction, so the export is a
+     * consistent snapshot, and through a cursor, so only one course is held in
+     * memory at a time.
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<CourseDTO> consumer) {
+        try (Stream<CourseExportRow> rows = courseRepository.streamExportRows()) {
+            CourseExportRow current = null;
+            List<LessonDTO> lessons = new ArrayList<>();
+            for (CourseExportRow row : (Iterable<CourseExportRow>) rows::iterator) {
+                if (current != null && !current.courseId().equals(row.courseId())) {
+                    consumer.accept(toExportDTO(current, lessons));
+                    lessons = new ArrayList<>();
+                }
+                current = row;
+                if (row.lessonId() != null) {
+                    lessons.add(new LessonDTO(row.lessonId(), row.lessonName(), row.youtubeUrl()));
+                }
+            }
+            if (current != null) {
+                consumer.accept(toExportDTO(current, lessons));
+            }
+        }
+    }
+
+    private static CourseDTO toExportDTO(CourseExportRow row, List<LessonDTO> lessons) {
+        return new CourseDTO(row.courseId(), row.courseName(), row.category().getValue(), lessons);
+    }
+
+    /**
+     * Full-text search over course and lesson names, most relevant first. Until
+     * the search index has been built, falls back to a partial-match query.
+     */
     @Transactional(readOnly = true)
     public List<CourseDTO> findByName(@NotNull @NotBlank String name) {
-        return courseRepository.findByNameContainingIgnoreCase(name, Limit.of(MAX_SEARCH_RESULTS)).stream()
+        if (!courseSearchService.isReady()) {
+            return courseRepository.findByNameContainingIgnoreCase(name, Limit.of(MAX_SEARCH_RESULTS)).stream()
+                    .map(courseMapper::toDTO)
+                    .toList();
+        }
+        List<Long> rankedIds = courseSearchService.search(name, MAX_SEARCH_RESULTS);
+        Map<Long, Course> coursesById = courseRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        // keep the index ranking; ids of courses deleted meanwhile are dropped
+        return rankedIds.stream()
+                .map(coursesById::get)
+                .filter(Objects::nonNull)
                 .map(courseMapper::toDTO)
                 .toList();
     }
 
+    /**
+     * Current version of a course, read without loading it, so a conditional
+     * request can be answered without building the course. Read from the
+     * primary: a lagging replica would answer {@code 304} for a course changed
+     * since.
+     */
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public Long findVersion(@Positive @NotNull Long id) {
+        return courseRepository.findVersionById(id)
+                .orElseThrow(() -> new RecordNotFoundException(id));
+    }
+
+    /**
+     * Read from the primary when not cached: the entry is served to every
+     * client until the next write evicts it, so it must not be a lagging
+     * replica's copy of the course.
+     */
+    @Cacheable(COURSE_CACHE)
+    @ReadFromPrimary
     @Transactional(readOnly = true)
-    public CourseDTO findById(@Positive @NotNull Long id) {
-        return courseRepository.findById(id).map(courseMapper::toDTO)
+    public VersionedCourse findVersionedById(@Positive @NotNull Long id) {
+        return courseRepository.findById(id)
+                .map(course -> new VersionedCourse(courseMapper.toDTO(course), course.getVersion()))
                 .orElseThrow(() -> new RecordNotFoundException(id));
     }
 
     @Transactional
     public CourseDTO create(@Valid CourseRequestDTO courseRequestDTO) {
-        validateUniqueName(courseRequestDTO.name(), null);
-        Course course = courseMapper.toModel(courseRequestDTO);
+        Course course = phase("create", "mapping").record(() -> courseMapper.toModel(courseRequestDTO));
         course.setStatus(Status.ACTIVE);
-        return courseMapper.toDTO(courseRepository.save(course));
+        return save("create", course);
     }
 
     @Transactional
     public CourseDTO update(@Positive @NotNull Long id, @Valid CourseRequestDTO courseRequestDTO) {
-        return courseRepository.findById(id).map(actual -> {
-            validateUniqueName(courseRequestDTO.name(), id);
+        return courseRepository.findForUpdateById(id).map(actual -> {
             actual.setName(courseRequestDTO.name());
             actual.setCategory(courseMapper.convertCategoryValue(courseRequestDTO.category()));
-            mergeLessonsForUpdate(actual, courseRequestDTO);
-            return courseMapper.toDTO(courseRepository.save(actual));
+            phase("update", "merge").record(() -> LessonMerge.of(actual, courseRequestDTO.lessons())
+                    .applyTo(actual, courseMapper::convertLessonDTOToLesson));
+            return save("update", actual);
         })
                 .orElseThrow(() -> new RecordNotFoundException(id));
     }
 
     /**
-     * A course name must be unique across all courses, including soft-deleted
-     * ones, mirroring the unique constraint on the name column. When updating,
-     * the course being updated may keep its own name.
+     * Saves and flushes the course, so that the SQL writes are timed as the
+     * {@code flush} phase rather than hidden in the commit, and publishes it.
      */
-    private void validateUniqueName(String name, Long currentId) {
-        boolean duplicateExists = courseRepository.findByNameIgnoringRestriction(name).stream()
-                .anyMatch(course -> !course.getId().equals(currentId));
-        if (duplicateExists) {
-            throw new BusinessException("A course with name '" + name + "' already exists");
-        }
+    private CourseDTO save(String method, Course course) {
+        Course saved = phase(method, "save").record(() -> courseRepository.save(course));
+        phase(method, "flush").record(() -> flush(course.getName()));
+        CourseDTO courseDTO = phase(method, "mapping").record(() -> courseMapper.toDTO(saved));
+        eventPublisher.publishEvent(new CourseSavedEvent(courseDTO));
+        return courseDTO;
     }
 
-    private void mergeLessonsForUpdate(Course updatedCourse, CourseRequestDTO courseRequestDTO) {
-
-        // remove the lessons that are no longer present in the request
-        List<Lesson> lessonsToRemove = updatedCourse.getLessons().stream()
-                .filter(lesson -> courseRequestDTO.lessons().stream()
-                        .noneMatch(lessonDto -> hasExistingId(lessonDto) && lessonDto._id().equals(lesson.getId())))
-                .toList();
-        lessonsToRemove.forEach(updatedCourse::removeLesson);
-
-        // update the lessons that match an existing id; anything else (no id or
-        // an id that does not belong to this course) is added as a new lesson
-        courseRequestDTO.lessons().forEach(lessonDto -> updatedCourse.getLessons().stream()
-                .filter(lesson -> hasExistingId(lessonDto) && lessonDto._id().equals(lesson.getId()))
-                .findAny()
-                .ifPresentOrElse(lesson -> {
-                    lesson.setName(lessonDto.name());
-                    lesson.setYoutubeUrl(lessonDto.youtubeUrl());
-                }, () -> updatedCourse.addLesson(courseMapper.convertLessonDTOToLesson(lessonDto))));
+    private Timer phase(String method, String phase) {
+        return phaseTimers.withTags("method", method, "phase", phase);
     }
 
     /**
-     * A lesson sent with a null or zero id is a new lesson; anything else refers
-     * to a persisted one.
+     * A course name must be unique across all courses, including soft-deleted
+     * ones. Rather than looking the name up first, the write is left to the
+     * unique constraint on the name column, the only unique key of the course
+     * and lesson tables, and its violation is reported as a duplicate name.
      */
-    private static boolean hasExistingId(LessonDTO lessonDto) {
-        return lessonDto._id() != null && lessonDto._id() != 0;
+    private void flush(String name) {
+        try {
+            courseRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && violation.getKind() == ConstraintKind.UNIQUE) {
+                throw new BusinessException("A course with name '" + name + "' already exists");
+            }
+            throw e;
+        }
     }
 
     @Transactional
     public void delete(@Positive @NotNull Long id) {
         courseRepository.delete(courseRepository.findById(id)
                 .orElseThrow(() -> new RecordNotFoundException(id)));
+        eventPublisher.publishEvent(new CourseDeletedEvent(id));
     }
 }
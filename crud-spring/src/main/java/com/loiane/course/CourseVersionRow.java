@@ -0,0 +1,7 @@
+package com.loiane.course;
+
+/**
+ * Id and version of a course, read to fingerprint a page of courses.
+ */
+public record CourseVersionRow(Long id, Long version) {
+}
@@ -1,10 +1,13 @@
 package com.loiane.course;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.validator.constraints.Length;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.loiane.shared.validation.ValidYouTubeUrl;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,14 +16,19 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "lesson")
 @Entity
 public class Lesson {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence so lesson inserts can be batched, same as Course
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lesson_seq")
+    @SequenceGenerator(name = "lesson_seq", sequenceName = "lesson_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -76,8 +84,10 @@ public class Lesson {
     /**
      * Equality is based on the database identity only: two persisted lessons are
      * the same if they have the same id, and unsaved lessons (id == null) are only
-     * equal to themselves. Mutable fields are excluded so instances stay
-     * consistent while held in a HashSet.
+     * equal to themselves. Mutable fields are excluded so the result does not
+     * change while a lesson is edited. Course keeps its lessons in a list and
+     * looks them up by id (see {@link Course#findLesson(Long)}), so neither
+     * method is on the path of a lesson lookup.
      */
     @Override
     public boolean equals(Object obj) {
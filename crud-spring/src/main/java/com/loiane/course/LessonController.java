@@ -0,0 +1,66 @@
+package com.loiane.course;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.LessonPageDTO;
+import com.loiane.course.dto.LessonPatchDTO;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Represents the REST API for the lessons of a course, to read or change one
+ * lesson without sending the whole course.
+ */
+@Validated
+@RestController
+@RequestMapping("api/courses/{courseId}/lessons")
+public class LessonController {
+
+    private final LessonService lessonService;
+
+    public LessonController(LessonService lessonService) {
+        this.lessonService = lessonService;
+    }
+
+    @GetMapping
+    public LessonPageDTO findAll(@PathVariable @Positive Long courseId,
+            @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
+        return lessonService.findAll(courseId, page, pageSize);
+    }
+
+    @GetMapping("/{lessonId}")
+    public LessonDTO findById(@PathVariable @Positive Long courseId, @PathVariable @Positive Long lessonId) {
+        return lessonService.findById(courseId, lessonId);
+    }
+
+    @PostMapping
+    @ResponseStatus(code = HttpStatus.CREATED)
+    public LessonDTO create(@PathVariable @Positive Long courseId, @RequestBody @Valid LessonDTO lesson) {
+        return lessonService.create(courseId, lesson);
+    }
+
+    @PatchMapping("/{lessonId}")
+    public LessonDTO update(@PathVariable @Positive Long courseId, @PathVariable @Positive Long lessonId,
+            @RequestBody @Valid LessonPatchDTO lesson) {
+        return lessonService.update(courseId, lessonId, lesson);
+    }
+
+    @DeleteMapping("/{lessonId}")
+    @ResponseStatus(code = HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable @Positive Long courseId, @PathVariable @Positive Long lessonId) {
+        lessonService.delete(courseId, lessonId);
+    }
+}
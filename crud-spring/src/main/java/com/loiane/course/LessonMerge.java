@@ -0,0 +1,97 @@
+package com.loiane.course;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.loiane.course.dto.LessonDTO;
+
+/**
+ * Difference between the lessons of a course and the lessons of an update
+ * request, computed in linear time from the course's index of its lessons by
+ * id (see {@link Course#findLesson(Long)}).
+ *
+ * <p>A requested lesson whose id belongs to the course updates that lesson,
+ * unless its name and video are unchanged; any other requested lesson (no id,
+ * a zero id, or an id of another course) is inserted; current lessons that are
+ * not requested are removed. Unchanged lessons are never touched, so Hibernate
+ * has nothing to write for them.
+ */
+final class LessonMerge {
+
+    private final List<LessonDTO> inserted = new ArrayList<>();
+    private final List<LessonUpdate> updated = new ArrayList<>();
+    private final List<Lesson> removed = new ArrayList<>();
+    private int unchanged;
+
+    private record LessonUpdate(Lesson lesson, LessonDTO changes) {
+    }
+
+    private LessonMerge() {
+    }
+
+    static LessonMerge of(Course course, List<LessonDTO> requestedLessons) {
+        LessonMerge merge = new LessonMerge();
+        Set<Long> requestedIds = HashSet.newHashSet(requestedLessons.size());
+        for (LessonDTO lessonDTO : requestedLessons) {
+            Lesson lesson = hasExistingId(lessonDTO) ? course.findLesson(lessonDTO._id()).orElse(null) : null;
+            if (lesson == null) {
+                merge.inserted.add(lessonDTO);
+                continue;
+            }
+            requestedIds.add(lesson.getId());
+            if (Objects.equals(lesson.getName(), lessonDTO.name())
+                    && Objects.equals(lesson.getYoutubeUrl(), lessonDTO.youtubeUrl())) {
+                merge.unchanged++;
+            } else {
+                merge.updated.add(new LessonUpdate(lesson, lessonDTO));
+            }
+        }
+        for (Lesson lesson : course.getLessons()) {
+            if (!requestedIds.contains(lesson.getId())) {
+                merge.removed.add(lesson);
+            }
+        }
+        return merge;
+    }
+
+    /**
+     * A lesson sent with a null or zero id is a new lesson; anything else refers
+     * to a persisted one.
+     */
+    private static boolean hasExistingId(LessonDTO lessonDTO) {
+        return lessonDTO._id() != null && lessonDTO._id() != 0;
+    }
+
+    /**
+     * Applies the difference to the course it was computed from,
+     * creating the inserted lessons with the given factory.
+     */
+    void applyTo(Course course, Function<LessonDTO, Lesson> newLesson) {
+        course.removeLessons(removed);
+        for (LessonUpdate update : updated) {
+            update.lesson().setName(update.changes().name());
+            update.lesson().setYoutubeUrl(update.changes().youtubeUrl());
+        }
+        inserted.forEach(lessonDTO -> course.addLesson(newLesson.apply(lessonDTO)));
+    }
+
+    int insertedCount() {
+        return inserted.size();
+    }
+
+    int updatedCount() {
+        return updated.size();
+    }
+
+    int removedCount() {
+        return removed.size();
+    }
+
+    int unchangedCount() {
+        return unchanged;
+    }
+}
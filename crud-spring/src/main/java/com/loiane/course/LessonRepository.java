@@ -0,0 +1,33 @@
+package com.loiane.course;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Access to single lessons, for changes that must not load the whole course.
+ * All queries filter on the course foreign key, without joining the course.
+ */
+public interface LessonRepository extends JpaRepository<Lesson, Long> {
+
+    Page<Lesson> findByCourseId(Long courseId, Pageable pageable);
+
+    Optional<Lesson> findByIdAndCourseId(Long id, Long courseId);
+
+    long countByCourseId(Long courseId);
+
+    /**
+     * Deletes the lessons of the given courses with one statement, as the
+     * cascade of a single course delete does lesson by lesson. A JPQL delete,
+     * so Hibernate invalidates the lesson cache regions.
+     */
+    @Modifying
+    @Query("DELETE FROM Lesson l WHERE l.course.id IN :courseIds")
+    int deleteAllByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+}
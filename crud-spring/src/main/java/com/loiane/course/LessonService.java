@@ -0,0 +1,140 @@
+package com.loiane.course;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.validation.annotation.Validated;
+
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.LessonPageDTO;
+import com.loiane.course.dto.LessonPatchDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.event.LessonDeletedEvent;
+import com.loiane.course.event.LessonSavedEvent;
+import com.loiane.exception.BusinessException;
+import com.loiane.exception.RecordNotFoundException;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Reads and changes the lessons of a course one at a time. Each operation
+ * reads and writes only the lesson concerned (plus the course version), so
+ * its cost does not depend on how many lessons the course has.
+ *
+ * <p>Every change bumps the course version, as an update through
+ * {@link CourseService} does, so course ETags and concurrent full updates see
+ * it.
+ */
+@Service
+@Validated
+public class LessonService {
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final CourseMapper courseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LessonService(CourseRepository courseRepository, LessonRepository lessonRepository,
+            CourseMapper courseMapper, ApplicationEventPublisher eventPublisher) {
+        this.courseRepository = courseRepository;
+        this.lessonRepository = lessonRepository;
+        this.courseMapper = courseMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public LessonPageDTO findAll(@Positive @NotNull Long courseId, @PositiveOrZero int page,
+            @Positive @Max(1000) int pageSize) {
+        requireCourse(courseId);
+        Page<LessonDTO> lessonPage = lessonRepository.findByCourseId(courseId, PageRequest.of(page, pageSize, BY_ID))
+                .map(courseMapper::toLessonDTO);
+        return new LessonPageDTO(lessonPage.getContent(), lessonPage.getTotalElements(),
+                lessonPage.getTotalPages());
+    }
+
+    @Transactional(readOnly = true)
+    public LessonDTO findById(@Positive @NotNull Long courseId, @Positive @NotNull Long lessonId) {
+        requireCourse(courseId);
+        return courseMapper.toLessonDTO(findLesson(courseId, lessonId));
+    }
+
+    /**
+     * Adds a lesson to the course. The id of the request is ignored, as in a
+     * course update.
+     */
+    @Transactional
+    public LessonDTO create(@Positive @NotNull Long courseId, @Valid @NotNull LessonDTO lessonDTO) {
+        Course course = lockCourse(courseId);
+        Lesson lesson = courseMapper.convertLessonDTOToLesson(lessonDTO);
+        // only the owning side: adding it to course.lessons would load them all
+        lesson.setCourse(course);
+        return saved(courseId, lessonRepository.save(lesson));
+    }
+
+    /**
+     * Changes the fields of the lesson that are set in the request.
+     */
+    @Transactional
+    public LessonDTO update(@Positive @NotNull Long courseId, @Positive @NotNull Long lessonId,
+            @Valid @NotNull LessonPatchDTO patch) {
+        lockCourse(courseId);
+        Lesson lesson = findLesson(courseId, lessonId);
+        if (patch.name() != null) {
+            lesson.setName(patch.name());
+        }
+        if (patch.youtubeUrl() != null) {
+            lesson.setYoutubeUrl(patch.youtubeUrl());
+        }
+        return saved(courseId, lesson);
+    }
+
+    /**
+     * Removes a lesson; the last lesson of a course cannot be removed.
+     */
+    @Transactional
+    public void delete(@Positive @NotNull Long courseId, @Positive @NotNull Long lessonId) {
+        lockCourse(courseId);
+        Lesson lesson = findLesson(courseId, lessonId);
+        if (lessonRepository.countByCourseId(courseId) <= 1) {
+            throw new BusinessException("A course must have at least one lesson");
+        }
+        lessonRepository.delete(lesson);
+        eventPublisher.publishEvent(new LessonDeletedEvent(courseId, lessonId));
+    }
+
+    private void requireCourse(Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new RecordNotFoundException(courseId);
+        }
+    }
+
+    /**
+     * Loads the course without its lessons and schedules its version bump,
+     * which also makes concurrent changes to the same course fail instead of
+     * overwriting each other.
+     */
+    private Course lockCourse(Long courseId) {
+        return courseRepository.findForUpdateById(courseId)
+                .orElseThrow(() -> new RecordNotFoundException(courseId));
+    }
+
+    private Lesson findLesson(Long courseId, Long lessonId) {
+        return lessonRepository.findByIdAndCourseId(lessonId, courseId)
+                .orElseThrow(() -> new RecordNotFoundException(lessonId));
+    }
+
+    private LessonDTO saved(Long courseId, Lesson lesson) {
+        LessonDTO lessonDTO = courseMapper.toLessonDTO(lesson);
+        eventPublisher.publishEvent(new LessonSavedEvent(courseId, lessonDTO));
+        return lessonDTO;
+    }
+}
@@ -0,0 +1,10 @@
+package com.loiane.course;
+
+import com.loiane.course.dto.CourseDTO;
+
+/**
+ * A course together with the version it was read at, so that the ETag sent
+ * with a response always matches its body.
+ */
+public record VersionedCourse(CourseDTO course, Long version) {
+}
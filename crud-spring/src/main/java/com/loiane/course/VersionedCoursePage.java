@@ -0,0 +1,8 @@
+package com.loiane.course;
+
+/**
+ * A page of courses together with the version tag of the rows it was built
+ * from, so that the ETag sent with a response always matches its body.
+ */
+public record VersionedCoursePage(CoursePage page, String versionTag) {
+}
@@ -0,0 +1,10 @@
+package com.loiane.course.dto;
+
+import com.loiane.course.enums.BulkOutcome;
+
+/**
+ * Outcome of one course of a bulk delete: {@code DELETED}, or
+ * {@code NOT_FOUND} when there is no active course with that id.
+ */
+public record CourseBulkDeleteResultDTO(Long id, BulkOutcome outcome) {
+}
@@ -0,0 +1,10 @@
+package com.loiane.course.dto;
+
+import com.loiane.course.enums.BulkOutcome;
+
+/**
+ * Outcome of one course of a bulk request, identified by its position in the
+ * request. The id is set for created courses, the message for rejected ones.
+ */
+public record CourseBulkResultDTO(int index, Long id, BulkOutcome outcome, String message) {
+}
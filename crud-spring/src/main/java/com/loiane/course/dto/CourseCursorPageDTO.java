@@ -0,0 +1,11 @@
+package com.loiane.course.dto;
+
+import java.util.List;
+
+/**
+ * Used as response object that represents a keyset (cursor) page of Courses.
+ * {@code nextCursor} is opaque to clients and is null on the last page.
+ */
+public record CourseCursorPageDTO(List<CourseDTO> courses, String nextCursor) {
+
+}
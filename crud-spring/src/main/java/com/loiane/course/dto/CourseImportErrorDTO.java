@@ -0,0 +1,7 @@
+package com.loiane.course.dto;
+
+/**
+ * A rejected course or row of a CSV import, identified by its line in the file.
+ */
+public record CourseImportErrorDTO(long line, String message) {
+}
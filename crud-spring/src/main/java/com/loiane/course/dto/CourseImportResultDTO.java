@@ -0,0 +1,15 @@
+package com.loiane.course.dto;
+
+import java.util.List;
+
+/**
+ * Summary of a CSV import. Only the first errors are listed;
+ * {@code coursesRejected} counts all of them.
+ */
+public record CourseImportResultDTO(
+        long rows,
+        long coursesCreated,
+        long lessonsCreated,
+        long coursesRejected,
+        List<CourseImportErrorDTO> errors) {
+}
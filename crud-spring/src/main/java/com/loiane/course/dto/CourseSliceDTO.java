@@ -0,0 +1,11 @@
+package com.loiane.course.dto;
+
+import java.util.List;
+
+/**
+ * Used as response object that represents a Page of Courses without totals:
+ * only whether a next page exists, so no count query is needed.
+ */
+public record CourseSliceDTO(List<CourseDTO> courses, boolean hasNext) {
+
+}
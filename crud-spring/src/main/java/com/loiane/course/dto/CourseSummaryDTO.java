@@ -0,0 +1,17 @@
+package com.loiane.course.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.loiane.course.enums.Category;
+
+/**
+ * Used as response object that represents a Course without its lessons,
+ * only how many it has. Built directly by a JPQL constructor expression.
+ */
+public record CourseSummaryDTO(
+        @JsonProperty("_id") Long id,
+        String name, String category, long lessonCount) {
+
+    public CourseSummaryDTO(Long id, String name, Category category, long lessonCount) {
+        this(id, name, category.getValue(), lessonCount);
+    }
+}
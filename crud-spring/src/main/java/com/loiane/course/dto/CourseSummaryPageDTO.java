@@ -0,0 +1,11 @@
+package com.loiane.course.dto;
+
+import java.util.List;
+
+/**
+ * Used as response object that represents a Page with a list of Course
+ * summaries.
+ */
+public record CourseSummaryPageDTO(List<CourseSummaryDTO> courses, long totalElements, int totalPages) {
+
+}
@@ -0,0 +1,11 @@
+package com.loiane.course.dto;
+
+import java.util.List;
+
+/**
+ * Used as response object that represents a Page with a list of Lessons of a
+ * course.
+ */
+public record LessonPageDTO(List<LessonDTO> lessons, long totalElements, int totalPages) {
+
+}
@@ -0,0 +1,16 @@
+package com.loiane.course.dto;
+
+import org.hibernate.validator.constraints.Length;
+
+import com.loiane.shared.validation.ValidYouTubeUrl;
+
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * Partial update of a lesson: null fields are left unchanged, the others are
+ * validated as in {@link LessonDTO}.
+ */
+public record LessonPatchDTO(
+        @Length(min = 5, max = 100) @Pattern(regexp = "(?s).*\\S.*", message = "must not be blank") String name,
+        @Length(min = 10, max = 11) @ValidYouTubeUrl String youtubeUrl) {
+}
@@ -1,8 +1,6 @@
 package com.loiane.course.dto.mapper;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
@@ -27,9 +25,9 @@ public class CourseMapper {
         course.setCategory(convertCategoryValue(courseRequestDTO.category()));
 
         // ids sent by the client are ignored: every lesson is created as new
-        Set<Lesson> lessons = courseRequestDTO.lessons().stream()
+        List<Lesson> lessons = courseRequestDTO.lessons().stream()
                 .map(this::convertLessonDTOToLesson)
-                .collect(Collectors.toSet());
+                .toList();
         // setLessons wires the lesson -> course back-reference
         course.setLessons(lessons);
 
@@ -42,12 +40,16 @@ public class CourseMapper {
         }
         List<LessonDTO> lessonDTOList = course.getLessons()
                 .stream()
-                .map(lesson -> new LessonDTO(lesson.getId(), lesson.getName(), lesson.getYoutubeUrl()))
+                .map(this::toLessonDTO)
                 .toList();
         return new CourseDTO(course.getId(), course.getName(), course.getCategory().getValue(),
                 lessonDTOList);
     }
 
+    public LessonDTO toLessonDTO(Lesson lesson) {
+        return new LessonDTO(lesson.getId(), lesson.getName(), lesson.getYoutubeUrl());
+    }
+
     public Category convertCategoryValue(String value) {
         if (value == null) {
             return null;
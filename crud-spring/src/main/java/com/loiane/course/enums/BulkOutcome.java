@@ -0,0 +1,8 @@
+package com.loiane.course.enums;
+
+/**
+ * Result of one item of a bulk operation.
+ */
+public enum BulkOutcome {
+    CREATED, INVALID, DUPLICATE, DELETED, NOT_FOUND
+}
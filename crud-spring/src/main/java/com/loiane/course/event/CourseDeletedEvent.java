@@ -0,0 +1,7 @@
+package com.loiane.course.event;
+
+/**
+ * Published by the course service after a course is (soft) deleted.
+ */
+public record CourseDeletedEvent(Long id) {
+}
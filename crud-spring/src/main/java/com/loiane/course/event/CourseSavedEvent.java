@@ -0,0 +1,10 @@
+package com.loiane.course.event;
+
+import com.loiane.course.dto.CourseDTO;
+
+/**
+ * Published by the course service after a course is created or updated.
+ * Listeners that react after commit see the course as it was persisted.
+ */
+public record CourseSavedEvent(CourseDTO course) {
+}
@@ -0,0 +1,8 @@
+package com.loiane.course.event;
+
+/**
+ * Published by the lesson service after a single lesson is removed from a
+ * course.
+ */
+public record LessonDeletedEvent(Long courseId, Long lessonId) {
+}
@@ -0,0 +1,10 @@
+package com.loiane.course.event;
+
+import com.loiane.course.dto.LessonDTO;
+
+/**
+ * Published by the lesson service after a single lesson is added to a course
+ * or changed, without the rest of the course.
+ */
+public record LessonSavedEvent(Long courseId, LessonDTO lesson) {
+}
@@ -0,0 +1,8 @@
+package com.loiane.course.search;
+
+/**
+ * One course/lesson name pair read when the search index is rebuilt. The
+ * lesson fields are null for a course without lessons.
+ */
+public record CourseSearchRow(Long courseId, String courseName, Long lessonId, String lessonName) {
+}
@@ -0,0 +1,295 @@
+package com.loiane.course.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.loiane.course.CourseRepository;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.event.CourseDeletedEvent;
+import com.loiane.course.event.CourseSavedEvent;
+import com.loiane.course.event.LessonDeletedEvent;
+import com.loiane.course.event.LessonSavedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Embedded full-text index over course names and lesson names, used to answer
+ * course searches with relevance ranking and typo tolerance instead of a
+ * {@code LIKE '%x%'} table scan.
+ *
+ * <p>The index holds one document per course and one per lesson, all keyed by
+ * course id; lesson documents also carry the lesson id, so a single lesson can
+ * be replaced. It is rebuilt from the database when the application starts and
+ * kept up to date from course events once their transaction commits. It lives
+ * in memory unless {@code app.search.index-directory} points to a local
+ * directory. Each instance keeps its own index, so changes made through other
+ * instances are only picked up by the next rebuild.
+ */
+@Service
+public class CourseSearchService {
+
+    static final String COURSE_ID = "courseId";
+    static final String LESSON_ID = "lessonId";
+    static final String COURSE_NAME = "courseName";
+    static final String LESSON_NAME = "lessonName";
+
+    // a match on the course name ranks above a match on one of its lessons
+    private static final float COURSE_NAME_BOOST = 2.0f;
+    private static final float EXACT_BOOST = 3.0f;
+    private static final float PREFIX_BOOST = 2.0f;
+    // several lessons of the same course can match; read a few extra hits so
+    // the requested number of distinct courses can still be returned
+    private static final int HITS_PER_RESULT = 5;
+
+    private final CourseRepository courseRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    public CourseSearchService(CourseRepository courseRepository,
+            @Value("${app.search.index-directory:}") String indexDirectory) {
+        this.courseRepository = courseRepository;
+        try {
+            this.directory = indexDirectory.isBlank() ? new ByteBuffersDirectory()
+                    : FSDirectory.open(Path.of(indexDirectory));
+            this.indexWriter = new IndexWriter(directory,
+                    new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the course search index", e);
+        }
+    }
+
+    /**
+     * Whether the index has been built and can answer searches.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Rebuilds the whole index from the active courses in the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<CourseSearchRow> rows = courseRepository.streamSearchRows()) {
+            indexWriter.deleteAll();
+            Long currentCourseId = null;
+            for (CourseSearchRow row : (Iterable<CourseSearchRow>) rows::iterator) {
+                if (!row.courseId().equals(currentCourseId)) {
+                    currentCourseId = row.courseId();
+                    indexWriter.addDocument(courseDocument(row.courseId(), row.courseName()));
+                }
+                if (row.lessonId() != null) {
+                    indexWriter.addDocument(lessonDocument(row.courseId(), row.lessonId(), row.lessonName()));
+                }
+            }
+            indexWriter.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not rebuild the course search index", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCourseSaved(CourseSavedEvent event) {
+        CourseDTO course = event.course();
+        List<Document> documents = new ArrayList<>();
+        documents.add(courseDocument(course.id(), course.name()));
+        for (LessonDTO lesson : course.lessons()) {
+            documents.add(lessonDocument(course.id(), lesson._id(), lesson.name()));
+        }
+        try {
+            indexWriter.updateDocuments(courseIdTerm(course.id()), documents);
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not index course " + course.id(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        try {
+            indexWriter.deleteDocuments(courseIdTerm(event.id()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove course " + event.id() + " from the index", e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLessonSaved(LessonSavedEvent event) {
+        LessonDTO lesson = event.lesson();
+        try {
+            indexWriter.updateDocument(lessonIdTerm(lesson._id()),
+                    lessonDocument(event.courseId(), lesson._id(), lesson.name()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not index lesson " + lesson._id(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLessonDeleted(LessonDeletedEvent event) {
+        try {
+            indexWriter.deleteDocuments(lessonIdTerm(event.lessonId()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not remove lesson " + event.lessonId() + " from the index", e);
+        }
+    }
+
+    /**
+     * Ids of the courses whose name or lesson names best match the given text,
+     * most relevant first. Each term matches exactly, as a prefix, or within
+     * one or two typos depending on its length.
+     */
+    public List<Long> search(String text, int maxResults) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] hits = searcher.search(query, maxResults * HITS_PER_RESULT).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                Set<Long> courseIds = new LinkedHashSet<>();
+                for (ScoreDoc hit : hits) {
+                    courseIds.add(Long.valueOf(storedFields.document(hit.doc).get(COURSE_ID)));
+                    if (courseIds.size() == maxResults) {
+                        break;
+                    }
+                }
+                return List.copyOf(courseIds);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not search the course index", e);
+        }
+    }
+
+    private Query buildQuery(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        List<String> terms = analyze(text);
+        for (String term : terms) {
+            query.add(new BoostQuery(termQuery(COURSE_NAME, term), COURSE_NAME_BOOST), Occur.SHOULD);
+            query.add(termQuery(LESSON_NAME, term), Occur.SHOULD);
+        }
+        return terms.isEmpty() ? null : query.build();
+    }
+
+    private static Query termQuery(String field, String text) {
+        Term term = new Term(field, text);
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new BoostQuery(new TermQuery(term), EXACT_BOOST), Occur.SHOULD)
+                .add(new BoostQuery(new PrefixQuery(term), PREFIX_BOOST), Occur.SHOULD);
+        int maxEdits = maxEdits(text);
+        if (maxEdits > 0) {
+            query.add(new FuzzyQuery(term, maxEdits), Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    /**
+     * Short terms must match exactly, longer ones tolerate one typo and long
+     * ones two, so that "jav" does not match every three-letter word.
+     */
+    private static int maxEdits(String term) {
+        if (term.length() < 4) {
+            return 0;
+        }
+        return term.length() < 8 ? 1 : 2;
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokens = analyzer.tokenStream(COURSE_NAME, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    private static Document courseDocument(Long courseId, String name) {
+        Document document = new Document();
+        document.add(new StringField(COURSE_ID, courseId.toString(), Field.Store.YES));
+        document.add(new TextField(COURSE_NAME, name, Field.Store.NO));
+        return document;
+    }
+
+    private static Document lessonDocument(Long courseId, Long lessonId, String name) {
+        Document document = new Document();
+        document.add(new StringField(COURSE_ID, courseId.toString(), Field.Store.YES));
+        if (lessonId != null) {
+            document.add(new StringField(LESSON_ID, lessonId.toString(), Field.Store.NO));
+        }
+        document.add(new TextField(LESSON_NAME, name, Field.Store.NO));
+        return document;
+    }
+
+    private static Term courseIdTerm(Long courseId) {
+        return new Term(COURSE_ID, courseId.toString());
+    }
+
+    private static Term lessonIdTerm(Long lessonId) {
+        return new Term(LESSON_ID, lessonId.toString());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+}
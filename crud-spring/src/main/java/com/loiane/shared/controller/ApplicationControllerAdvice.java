@@ -2,9 +2,12 @@ package com.loiane.shared.controller;
 
 import java.util.List;
 
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,7 +15,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.loiane.exception.BusinessException;
+import com.loiane.exception.InvalidCursorException;
 import com.loiane.exception.RecordNotFoundException;
+import com.loiane.shared.csv.CsvFormatException;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -35,12 +40,38 @@ public class ApplicationControllerAdvice {
         return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(CsvFormatException.class)
+    public ProblemDetail handleCsvFormatException(CsvFormatException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ProblemDetail handleDataIntegrityViolationException(DataIntegrityViolationException e) {
         return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
                 "The operation conflicts with existing data");
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT,
+                "The record was modified concurrently, please reload it and try again");
+    }
+
+    /**
+     * No database connection could be obtained in time, e.g. when admission
+     * control to the connection pool times out under load.
+     */
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ProblemDetail handleDatabaseUnavailable(Exception e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is temporarily unavailable, please try again later");
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ProblemDetail validationError(MethodArgumentNotValidException ex) {
         BindingResult result = ex.getBindingResult();
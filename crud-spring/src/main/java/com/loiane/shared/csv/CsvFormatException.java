@@ -0,0 +1,14 @@
+package com.loiane.shared.csv;
+
+/**
+ * Thrown when a CSV input cannot be parsed or does not have the expected
+ * layout.
+ */
+public class CsvFormatException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CsvFormatException(long line, String message) {
+        super("CSV line " + line + ": " + message);
+    }
+}
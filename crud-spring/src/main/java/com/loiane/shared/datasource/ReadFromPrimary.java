@@ -0,0 +1,20 @@
+package com.loiane.shared.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the reads of the annotated method to the primary even in a read-only
+ * transaction, for results that outlive the request: a read that fills a
+ * cache, or the version a conditional request is checked against, must not
+ * come from a replica that has not caught up with the last write. Applied by
+ * {@link ReadFromPrimaryAspect} around the transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ReadFromPrimary {
+}
@@ -0,0 +1,31 @@
+package com.loiane.shared.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Requires the primary for the duration of a {@link ReadFromPrimary} method.
+ * Runs after the caching advice, so a cache hit does not touch it, and
+ * before the transaction starts, so that the transaction sees it.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.loiane.shared.datasource.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean alreadyRequired = ReadYourWrites.isPrimaryRequired();
+        ReadYourWrites.requirePrimary();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            // a request that already reads from the primary keeps doing so
+            if (!alreadyRequired) {
+                ReadYourWrites.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.loiane.shared.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends read-only transactions to the replicas and everything else to the
+ * primary.
+ *
+ * <p>The transaction manager marks the connection read-only after borrowing
+ * it, so the physical connection is only fetched on the first statement, once
+ * the read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final ReplicaDataSource replicas;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, ReplicaDataSource replicas) {
+        super(primary);
+        setReadOnlyDataSource(replicas);
+        this.replicas = replicas;
+    }
+
+    public ReplicaDataSource getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the replica pools and the primary one, which the container would
+     * otherwise no longer see once it is wrapped.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            replicas.close();
+        } finally {
+            if (getTargetDataSource() instanceof Closeable primary) {
+                primary.close();
+            }
+        }
+    }
+}
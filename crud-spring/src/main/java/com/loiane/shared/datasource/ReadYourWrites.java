@@ -0,0 +1,27 @@
+package com.loiane.shared.datasource;
+
+/**
+ * Marks the reads of the current thread as needing the primary database,
+ * because the client wrote recently and the replicas may not have caught up
+ * yet. Set for the duration of a request by {@link ReadYourWritesFilter}, and
+ * of a method by {@link ReadFromPrimaryAspect}.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+
+    public static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+}
@@ -0,0 +1,118 @@
+package com.loiane.shared.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Hands out connections to one of several read replicas, chosen in turn
+ * ({@link Selection#ROUND_ROBIN}) or by the fewest connections in use
+ * ({@link Selection#LEAST_LOADED}). Falls back to the primary when the
+ * client must read its own writes ({@link ReadYourWrites}) or when no replica
+ * can be reached.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements Closeable {
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_LOADED
+    }
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final Selection selection;
+    private final AtomicIntegerArray active;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+
+    public ReplicaDataSource(DataSource primary, List<DataSource> replicas, Selection selection) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.active = new AtomicIntegerArray(replicas.size());
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadYourWrites.isPrimaryRequired()) {
+            return primary.getConnection();
+        }
+        int first = select();
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            int replica = (first + attempt) % replicas.size();
+            try {
+                return track(replica, replicas.get(replica).getConnection());
+            } catch (SQLException e) {
+                // try the next replica
+            }
+        }
+        // the primary can serve any read
+        primaryFallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Connections of the given replica currently in use.
+     */
+    public int getActive(int replica) {
+        return active.get(replica);
+    }
+
+    /**
+     * Reads sent to the primary because no replica could be reached.
+     */
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource replica : replicas) {
+            if (replica instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private int select() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        if (selection == Selection.ROUND_ROBIN) {
+            return start;
+        }
+        // starting from the round-robin position spreads ties evenly
+        int selected = start;
+        for (int offset = 1; offset < replicas.size(); offset++) {
+            int replica = (start + offset) % replicas.size();
+            if (active.get(replica) < active.get(selected)) {
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    private Connection track(int replica, Connection connection) {
+        active.incrementAndGet(replica);
+        return ConnectionCloseHook.onClose(connection, () -> active.decrementAndGet(replica));
+    }
+}
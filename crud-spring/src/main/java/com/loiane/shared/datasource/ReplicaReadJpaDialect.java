@@ -0,0 +1,31 @@
+package com.loiane.shared.datasource;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Keeps rows read from a replica out of the Hibernate second-level cache. A
+ * read-only transaction that may be served by a replica reads the cache but
+ * does not fill it ({@link CacheMode#GET}): a replica that lags behind would
+ * otherwise cache the state from before a write, just evicted by that write,
+ * for the whole TTL of the region. The cache is filled by writes and by reads
+ * on the primary.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (definition.isReadOnly() && !ReadYourWrites.isPrimaryRequired()) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
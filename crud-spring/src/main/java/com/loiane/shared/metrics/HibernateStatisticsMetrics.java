@@ -0,0 +1,87 @@
+package com.loiane.shared.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes Hibernate's session factory statistics (entity loads, collection
+ * fetches, flushes, statements, queries) as {@code hibernate.*} counters, and
+ * the hits, misses and hit ratio of each second-level cache region (tag
+ * {@code region}). Hibernate only collects them with
+ * {@code hibernate.generate_statistics}.
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.sessions.open", "Sessions opened", Statistics::getSessionOpenCount);
+        counter(registry, "hibernate.transactions", "Transactions completed", Statistics::getTransactionCount);
+        counter(registry, "hibernate.flushes", "Flushes, explicit or automatic", Statistics::getFlushCount);
+        counter(registry, "hibernate.connections.obtained", "JDBC connections obtained",
+                Statistics::getConnectCount);
+        counter(registry, "hibernate.statements", "JDBC statements prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.entities.loads", "Entities loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetches", "Entities fetched lazily", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.entities.inserts", "Entities inserted", Statistics::getEntityInsertCount);
+        counter(registry, "hibernate.entities.updates", "Entities updated", Statistics::getEntityUpdateCount);
+        counter(registry, "hibernate.entities.deletes", "Entities deleted", Statistics::getEntityDeleteCount);
+        counter(registry, "hibernate.collections.loads", "Collections loaded", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate.collections.fetches", "Collections fetched lazily",
+                Statistics::getCollectionFetchCount);
+        counter(registry, "hibernate.query.executions", "Queries executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.optimistic.failures", "Optimistic lock failures",
+                Statistics::getOptimisticFailureCount);
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            bindRegion(registry, region);
+        }
+    }
+
+    private void bindRegion(MeterRegistry registry, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+        FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                CacheRegionStatistics::getHitCount)
+                .description("Second-level cache lookups")
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.second.level.cache.requests", regionStatistics,
+                CacheRegionStatistics::getMissCount)
+                .description("Second-level cache lookups")
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.second.level.cache.puts", regionStatistics,
+                CacheRegionStatistics::getPutCount)
+                .description("Entries put in the second-level cache")
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("hibernate.second.level.cache.hit.ratio", regionStatistics, HibernateStatisticsMetrics::hitRatio)
+                .description("Share of second-level cache lookups that were hits")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    private void counter(MeterRegistry registry, String name, String description,
+            ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value)
+                .description(description)
+                .register(registry);
+    }
+}
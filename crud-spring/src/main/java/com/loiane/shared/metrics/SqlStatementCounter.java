@@ -0,0 +1,59 @@
+package com.loiane.shared.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a
+ * {@link Count} is open. Each prepared statement is one round trip to the
+ * database; a JDBC batch is prepared once.
+ *
+ * <p>Registered as Hibernate's statement inspector, so it sees every
+ * statement, including the ones of native queries.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<Count> current = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Count count = current.get();
+        if (count != null) {
+            count.statements++;
+        }
+        return sql;
+    }
+
+    /**
+     * Starts counting on the current thread until the returned count is
+     * closed. Counts may be nested: statements are then counted by the
+     * innermost one only.
+     */
+    public Count start() {
+        Count count = new Count(current.get());
+        current.set(count);
+        return count;
+    }
+
+    public final class Count implements AutoCloseable {
+
+        private final Count outer;
+        private long statements;
+
+        private Count(Count outer) {
+            this.outer = outer;
+        }
+
+        public long getStatements() {
+            return statements;
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                current.remove();
+            } else {
+                current.set(outer);
+            }
+        }
+    }
+}
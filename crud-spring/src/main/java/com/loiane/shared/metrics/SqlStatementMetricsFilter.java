@@ -0,0 +1,64 @@
+package com.loiane.shared.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the number of SQL statements each request ran as the
+ * {@code app.http.server.requests.sql} distribution summary, tagged like
+ * {@code http.server.requests} (method, uri template and status), so a
+ * request that starts issuing one query per row shows up as a jump in its
+ * statement count.
+ *
+ * <p>Only statements run on the request thread are counted; the body of a
+ * streaming response is written after the filter returns.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC = "app.http.server.requests.sql";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(SqlStatementCounter counter, MeterRegistry meterRegistry) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (SqlStatementCounter.Count count = counter.start()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                record(request, response, count.getStatements());
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, long statements) {
+        // requests no handler matched (404s) would otherwise add one tag value per path
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) instanceof String uri)) {
+            return;
+        }
+        DistributionSummary.builder(METRIC)
+                .description("SQL statements run per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .tag("status", Integer.toString(response.getStatus()))
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(statements);
+    }
+}
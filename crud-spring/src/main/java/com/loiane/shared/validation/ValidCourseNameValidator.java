@@ -1,31 +1,47 @@
 package com.loiane.shared.validation;
 
-import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
-
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 /**
  * Validator for course names to ensure professional and appropriate content.
  * Validates formatting, length, and content appropriateness.
+ *
+ * <p>The rules, checked in this order (the first broken rule gives the
+ * message), apply to the name without leading and trailing whitespace or
+ * control characters:
+ * <ol>
+ * <li>only letters and numbers (any language), whitespace and
+ * {@code - _ . , ( ) & + #}, and at least one character</li>
+ * <li>at most two consecutive punctuation characters</li>
+ * <li>at most two consecutive whitespace characters</li>
+ * <li>the name as given does not start or end with whitespace</li>
+ * <li>no placeholder word, as a whole word and ignoring case</li>
+ * <li>not just a number</li>
+ * </ol>
+ *
+ * <p>The name is scanned once, without copying it or allocating on the way,
+ * since this runs on every course create and update.
  */
 public class ValidCourseNameValidator implements ConstraintValidator<ValidCourseName, String> {
 
-    // Pattern for valid course names: letters (any language), numbers, spaces,
-    // and common punctuation
-    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("^[\\p{L}\\p{N}\\s\\-_.,()&+#]+$");
+    static final String INVALID_CHARACTERS = "Course name contains invalid characters";
+    static final String EXCESSIVE_SPECIAL_CHARS = "Course name contains too many consecutive special characters";
+    static final String EXCESSIVE_SPACES = "Course name contains excessive spaces";
+    static final String STARTS_OR_ENDS_WITH_SPACE = "Course name cannot start or end with spaces";
+    static final String PLACEHOLDER_CONTENT = "Course name appears to contain test or placeholder content";
+    static final String ONLY_NUMBERS = "Course name must contain meaningful text, not just numbers";
 
-    // Patterns to detect potential issues
-    private static final Pattern EXCESSIVE_SPECIAL_CHARS = Pattern.compile("[^\\p{L}\\p{N}\\s]{3,}");
-    private static final Pattern MULTIPLE_SPACES = Pattern.compile("\\s{3,}");
-    private static final Pattern STARTS_OR_ENDS_WITH_SPACE = Pattern.compile("(^\\s)|(\\s$)");
+    // Common punctuation allowed besides letters, numbers and whitespace
+    private static final String ALLOWED_PUNCTUATION = "-_.,()&+#";
+    private static final int MAX_CONSECUTIVE_SPECIAL_CHARS = 2;
+    private static final int MAX_CONSECUTIVE_SPACES = 2;
 
-    // Common placeholder or spam-like words (extend as needed). Words like
-    // "test" are deliberately not listed: real course names may contain them.
-    private static final Set<String> INAPPROPRIATE_WORDS = Set.of(
-            "dummy", "sample", "lorem", "ipsum", "asdf", "qwerty");
+    // Common placeholder or spam-like words (extend as needed, in lower case).
+    // Words like "test" are deliberately not listed: real course names may
+    // contain them.
+    private static final String[] INAPPROPRIATE_WORDS = {
+            "dummy", "sample", "lorem", "ipsum", "asdf", "qwerty" };
 
     @Override
     public void initialize(ValidCourseName constraintAnnotation) {
@@ -37,51 +53,132 @@ public class ValidCourseNameValidator implements ConstraintValidator<ValidCourse
         if (value == null) {
             return true; // Let @NotNull handle null values
         }
-
-        String trimmedValue = value.trim();
-
-        // Check basic format
-        if (!VALID_NAME_PATTERN.matcher(trimmedValue).matches()) {
-            addCustomMessage(context, "Course name contains invalid characters");
+        String message = check(value);
+        if (message != null) {
+            addCustomMessage(context, message);
             return false;
         }
+        return true;
+    }
 
-        // Check for excessive special characters
-        if (EXCESSIVE_SPECIAL_CHARS.matcher(trimmedValue).find()) {
-            addCustomMessage(context, "Course name contains too many consecutive special characters");
-            return false;
+    /**
+     * Returns the message of the first rule the name breaks, or null if it is
+     * valid.
+     */
+    static String check(String value) {
+        // same bounds as String.trim(), without the copy
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
         }
-
-        // Check for excessive spaces
-        if (MULTIPLE_SPACES.matcher(trimmedValue).find()) {
-            addCustomMessage(context, "Course name contains excessive spaces");
-            return false;
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return INVALID_CHARACTERS;
         }
 
-        // Check if starts or ends with space (after trim this shouldn't happen, but
-        // safety check)
-        if (STARTS_OR_ENDS_WITH_SPACE.matcher(value).find()) {
-            addCustomMessage(context, "Course name cannot start or end with spaces");
-            return false;
+        boolean excessiveSpecialChars = false;
+        boolean excessiveSpaces = false;
+        boolean placeholder = false;
+        boolean onlyDigits = true;
+        int specialCharRun = 0;
+        int spaceRun = 0;
+        int wordStart = -1;
+        int i = start;
+        while (i < end) {
+            int codePoint = value.codePointAt(i);
+            if (isLetterOrNumber(codePoint)) {
+                specialCharRun = 0;
+                spaceRun = 0;
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+                onlyDigits &= codePoint >= '0' && codePoint <= '9';
+            } else {
+                if (wordStart >= 0) {
+                    placeholder |= isInappropriateWord(value, wordStart, i);
+                    wordStart = -1;
+                }
+                onlyDigits = false;
+                if (isWhitespace(codePoint)) {
+                    specialCharRun = 0;
+                    excessiveSpaces |= ++spaceRun > MAX_CONSECUTIVE_SPACES;
+                } else if (ALLOWED_PUNCTUATION.indexOf(codePoint) >= 0) {
+                    spaceRun = 0;
+                    excessiveSpecialChars |= ++specialCharRun > MAX_CONSECUTIVE_SPECIAL_CHARS;
+                } else {
+                    return INVALID_CHARACTERS;
+                }
+            }
+            i += Character.charCount(codePoint);
+        }
+        if (wordStart >= 0) {
+            placeholder |= isInappropriateWord(value, wordStart, end);
         }
 
-        // Check for inappropriate words (whole words only, so names like
-        // "Latest Angular Features" are not rejected for containing "test")
-        boolean containsInappropriate = Stream.of(trimmedValue.toLowerCase().split("[^\\p{L}\\p{N}]+"))
-                .anyMatch(INAPPROPRIATE_WORDS::contains);
+        if (excessiveSpecialChars) {
+            return EXCESSIVE_SPECIAL_CHARS;
+        }
+        if (excessiveSpaces) {
+            return EXCESSIVE_SPACES;
+        }
+        if (isWhitespace(value.charAt(0)) || isWhitespace(value.charAt(value.length() - 1))) {
+            return STARTS_OR_ENDS_WITH_SPACE;
+        }
+        if (placeholder) {
+            return PLACEHOLDER_CONTENT;
+        }
+        if (onlyDigits) {
+            return ONLY_NUMBERS;
+        }
+        return null;
+    }
 
-        if (containsInappropriate) {
-            addCustomMessage(context, "Course name appears to contain test or placeholder content");
-            return false;
+    /**
+     * Letters and numbers of any script: Unicode categories L and N.
+     */
+    private static boolean isLetterOrNumber(int codePoint) {
+        if (Character.isLetter(codePoint)) {
+            return true;
         }
+        int type = Character.getType(codePoint);
+        return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER
+                || type == Character.OTHER_NUMBER;
+    }
 
-        // Check for minimal meaningful content (not just numbers or single words)
-        String[] words = trimmedValue.split("\\s+");
-        if (words.length == 1 && words[0].matches("\\d+")) {
-            addCustomMessage(context, "Course name must contain meaningful text, not just numbers");
-            return false;
+    /**
+     * The whitespace of {@code \s} in Java regular expressions.
+     */
+    private static boolean isWhitespace(int codePoint) {
+        return codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r');
+    }
+
+    private static boolean isInappropriateWord(String value, int start, int end) {
+        for (String word : INAPPROPRIATE_WORDS) {
+            if (word.length() == end - start && equalsIgnoreAsciiCase(word, value, start)) {
+                return true;
+            }
         }
+        return false;
+    }
 
+    /**
+     * Compares the lower-case ASCII word with the same number of characters of
+     * the value starting at the given offset. Only A-Z are folded: other
+     * characters never lower-case to the letters of the words.
+     */
+    private static boolean equalsIgnoreAsciiCase(String word, String value, int offset) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = value.charAt(offset + i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if (c != word.charAt(i)) {
+                return false;
+            }
+        }
         return true;
     }
 
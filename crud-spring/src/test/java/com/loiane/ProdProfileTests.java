@@ -0,0 +1,35 @@
+package com.loiane;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springdoc.core.properties.SpringDocConfigProperties;
+import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * The {@code prod} profile against an in-memory database instead of MySQL.
+ */
+@ActiveProfiles("prod")
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:prod-profile;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create" })
+class ProdProfileTests {
+
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	@DisplayName("Should not initialize springdoc in prod")
+	void springdocDisabled() {
+		assertThat(context.getBeanNamesForType(SpringDocConfigProperties.class)).isEmpty();
+		assertThat(context.getBeanNamesForType(SwaggerUiConfigProperties.class)).isEmpty();
+	}
+
+}
@@ -6,19 +6,36 @@ import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noMethods;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 
+import java.util.regex.Pattern;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.Repository;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
 
-@AnalyzeClasses(packages = "com.loiane", importOptions = ImportOption.DoNotIncludeTests.class)
+@AnalyzeClasses(packages = "com.loiane", importOptions = { ImportOption.DoNotIncludeTests.class,
+        ArchitectureTest.DoNotIncludeAotGenerated.class })
 class ArchitectureTest {
 
+    /**
+     * Leaves out the classes Spring AOT generates (the {@code fast-startup}
+     * profile compiles them into {@code target/classes}), such as
+     * {@code CourseRepositoryImpl__AotRepository}.
+     */
+    static final class DoNotIncludeAotGenerated implements ImportOption {
+
+        @Override
+        public boolean includes(Location location) {
+            return !location.matches(Pattern.compile(".*/[^/]*__[^/]*\\.class"));
+        }
+    }
+
     // 1. Layer dependencies: lower layers must not depend on upper layers
     @ArchTest
     static final ArchRule servicesShouldNotDependOnControllers = noClasses()
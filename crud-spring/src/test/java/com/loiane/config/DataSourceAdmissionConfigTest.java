@@ -0,0 +1,57 @@
+package com.loiane.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.loiane.shared.datasource.AdmissionControlledDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DataSourceAdmissionConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourceAdmissionConfig.class)
+            .withBean(DataSource.class, () -> mock(DataSource.class));
+
+    @Test
+    @DisplayName("Should leave the data source alone when admission control is disabled")
+    void testDisabled() {
+        contextRunner.withPropertyValues("app.datasource.admission.enabled=false")
+                .run(context -> assertThat(context.getBean(DataSource.class))
+                        .isNotInstanceOf(AdmissionControlledDataSource.class));
+    }
+
+    @Test
+    @DisplayName("Should size the admission limit to the pool by default and publish its gauges")
+    void testEnabled() {
+        contextRunner.withPropertyValues("app.datasource.admission.enabled=true",
+                "spring.datasource.hikari.maximum-pool-size=4")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class))
+                            .isInstanceOfSatisfying(AdmissionControlledDataSource.class,
+                                    dataSource -> assertThat(dataSource.getMaxConcurrent()).isEqualTo(4));
+
+                    MeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean(MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("app.datasource.admission.max").gauge().value()).isEqualTo(4);
+                    assertThat(registry.get("app.datasource.admission.waiting").gauge().value()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("Should take an explicit admission limit over the pool size")
+    void testExplicitLimit() {
+        contextRunner.withPropertyValues("app.datasource.admission.enabled=true",
+                "app.datasource.admission.max-concurrent=2", "app.datasource.admission.timeout=5s")
+                .run(context -> assertThat(context.getBean(AdmissionControlledDataSource.class)
+                        .getMaxConcurrent()).isEqualTo(2));
+    }
+}
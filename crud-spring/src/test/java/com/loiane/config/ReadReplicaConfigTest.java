@@ -0,0 +1,71 @@
+package com.loiane.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.loiane.shared.datasource.AdmissionControlledDataSource;
+import com.loiane.shared.datasource.ReadFromPrimaryAspect;
+import com.loiane.shared.datasource.ReadReplicaRoutingDataSource;
+import com.loiane.shared.datasource.ReadYourWritesFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ReadReplicaConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(ReadReplicaConfig.class)
+            .withBean(DataSource.class, () -> mock(DataSource.class));
+
+    @Test
+    @DisplayName("Should leave the data source alone when no replica is configured")
+    void testDisabled() {
+        contextRunner.run(context -> {
+            assertThat(context.getBean(DataSource.class)).isNotInstanceOf(ReadReplicaRoutingDataSource.class);
+            assertThat(context).doesNotHaveBean(ReadYourWritesFilter.class);
+        });
+    }
+
+    @Test
+    @DisplayName("Should route to one pool per replica and publish their gauges")
+    void testEnabled() {
+        contextRunner.withPropertyValues(
+                "app.datasource.read-replicas.urls=jdbc:h2:mem:replica1,jdbc:h2:mem:replica2",
+                "app.datasource.read-replicas.selection=least-loaded")
+                .run(context -> {
+                    assertThat(context.getBean(DataSource.class))
+                            .isInstanceOfSatisfying(ReadReplicaRoutingDataSource.class,
+                                    dataSource -> assertThat(dataSource.getReplicas().getReplicaCount())
+                                            .isEqualTo(2));
+                    assertThat(context).hasSingleBean(ReadYourWritesFilter.class);
+                    assertThat(context).hasSingleBean(ReadFromPrimaryAspect.class);
+
+                    MeterRegistry registry = new SimpleMeterRegistry();
+                    context.getBean(MeterBinder.class).bindTo(registry);
+                    assertThat(registry.get("app.datasource.replicas.active").tag("replica", "replica-2")
+                            .gauge().value()).isZero();
+                    assertThat(registry.get("app.datasource.replicas.primary.fallbacks").functionCounter()
+                            .count()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("Should route the pool before admission control wraps it")
+    void testWithAdmissionControl() {
+        contextRunner.withUserConfiguration(DataSourceAdmissionConfig.class)
+                .withPropertyValues("app.datasource.read-replicas.urls=jdbc:h2:mem:replica1",
+                        "app.datasource.admission.enabled=true")
+                .run(context -> {
+                    DataSource dataSource = context.getBean(DataSource.class);
+                    assertThat(dataSource).isInstanceOf(AdmissionControlledDataSource.class);
+                    assertThat(dataSource.unwrap(ReadReplicaRoutingDataSource.class)).isNotNull();
+                });
+    }
+}
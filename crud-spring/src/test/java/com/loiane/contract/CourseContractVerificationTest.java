@@ -11,9 +11,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import com.loiane.course.Course;
+import com.loiane.course.CoursePage;
 import com.loiane.course.CourseService;
-import com.loiane.course.dto.CourseDTO;
-import com.loiane.course.dto.CoursePageDTO;
+import com.loiane.course.VersionedCoursePage;
+import com.loiane.course.enums.Category;
 
 import au.com.dius.pact.provider.junit5.HttpTestTarget;
 import au.com.dius.pact.provider.junit5.PactVerificationContext;
@@ -59,10 +61,20 @@ class CourseContractVerificationTest {
 
     @State("three courses exist")
     void threeCoursesExist() {
-        when(courseService.findAll(0, 10)).thenReturn(
-                new CoursePageDTO(List.of(
-                        new CourseDTO(1L, "Angular", "Front-end", List.of()),
-                        new CourseDTO(2L, "Spring Boot", "Back-end", List.of()),
-                        new CourseDTO(3L, "Java", "Back-end", List.of())), 3, 1));
+        // written by the application's CoursePageHttpMessageConverter
+        when(courseService.findVersionedPage(0, 10)).thenReturn(new VersionedCoursePage(
+                new CoursePage(List.of(
+                        course(1L, "Angular", Category.FRONT_END),
+                        course(2L, "Spring Boot", Category.BACK_END),
+                        course(3L, "Java", Category.BACK_END)), 3, 1),
+                "3c0ffee"));
+    }
+
+    private static Course course(Long id, String name, Category category) {
+        Course course = new Course();
+        course.setId(id);
+        course.setName(name);
+        course.setCategory(category);
+        return course;
     }
 }
@@ -0,0 +1,98 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.shared.metrics.QueryCounter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Compares the JDBC statements needed to create the same courses one at a time
+ * with {@link CourseService#create(CourseRequestDTO)} and in one call to
+ * {@link CourseBulkService#createAll(List)}. Each prepared statement is one
+ * round trip to the database (a JDBC batch is prepared once and sent once).
+ * The courses are deleted afterwards, so the tests sharing the database do
+ * not see them.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false" })
+class CourseBulkBenchmarkTest {
+
+    private static final int COURSES = 100;
+    private static final int LESSONS_PER_COURSE = 20;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseBulkService courseBulkService;
+
+    @Autowired
+    private CourseBulkDeleteService courseBulkDeleteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedCourses() {
+        courseBulkDeleteService.deleteAll(createdIds);
+    }
+
+    @Test
+    @DisplayName("Bulk create should need far fewer round trips than a create loop")
+    void compareRoundTrips() {
+        List<CourseRequestDTO> loopCourses = courses("Loop");
+        List<CourseRequestDTO> bulkCourses = courses("Bulk");
+
+        List<CourseDTO> created = new ArrayList<>();
+        long loop = statements(() -> loopCourses.forEach(course -> created.add(courseService.create(course))));
+        List<CourseBulkResultDTO> results = new ArrayList<>();
+        long bulk = statements(() -> results.addAll(courseBulkService.createAll(bulkCourses)));
+        created.forEach(course -> createdIds.add(course.id()));
+        results.forEach(result -> createdIds.add(result.id()));
+
+        // with IDENTITY ids every row was its own insert: the course and each
+        // of its lessons
+        long identityLoop = (long) COURSES * (1 + LESSONS_PER_COURSE);
+        assertThat(results).extracting(CourseBulkResultDTO::outcome).containsOnly(BulkOutcome.CREATED);
+        // the loop still needs a course insert and a lesson batch per course
+        assertThat(loop).as("create loop statements").isGreaterThanOrEqualTo(2L * COURSES)
+                .isLessThan(identityLoop / 2);
+        assertThat(bulk).as("bulk statements, against %d for the create loop", loop).isLessThan(loop / 5);
+    }
+
+    private long statements(Runnable work) {
+        return new QueryCounter(entityManagerFactory).count(work).statements();
+    }
+
+    private static List<CourseRequestDTO> courses(String prefix) {
+        List<CourseRequestDTO> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            List<LessonDTO> lessons = new ArrayList<>(LESSONS_PER_COURSE);
+            for (int j = 0; j < LESSONS_PER_COURSE; j++) {
+                lessons.add(new LessonDTO(null, "Lesson " + j, "abcdefgh123"));
+            }
+            courses.add(new CourseRequestDTO(prefix + " benchmark course " + i, "Back-end", lessons));
+        }
+        return courses;
+    }
+}
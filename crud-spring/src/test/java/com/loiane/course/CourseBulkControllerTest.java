@@ -0,0 +1,139 @@
+package com.loiane.course;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.Reader;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.loiane.course.dto.CourseBulkDeleteResultDTO;
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseImportResultDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.course.enums.Category;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class CourseBulkControllerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private CourseBulkService courseBulkService;
+    private CourseBulkDeleteService courseBulkDeleteService;
+    private CourseImportService courseImportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        courseBulkService = mock(CourseBulkService.class);
+        courseBulkDeleteService = mock(CourseBulkDeleteService.class);
+        courseImportService = mock(CourseImportService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new CourseBulkController(courseBulkService, courseBulkDeleteService, courseImportService))
+                .build();
+    }
+
+    /**
+     * Method under test: {@link CourseBulkController#createAll(List)}
+     */
+    @Test
+    @DisplayName("Should return the outcome of each course of the request")
+    void testCreateAll() throws Exception {
+        when(courseBulkService.createAll(anyList())).thenReturn(List.of(
+                new CourseBulkResultDTO(0, 1L, BulkOutcome.CREATED, null),
+                new CourseBulkResultDTO(1, null, BulkOutcome.DUPLICATE, "A course with name 'Spring' already exists")));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(TestData.createValidCourseRequest(),
+                        TestData.createValidCourseRequest()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].outcome", is("CREATED")))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[1].outcome", is("DUPLICATE")))
+                .andExpect(jsonPath("$[1].message", is("A course with name 'Spring' already exists")));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkController#deleteAll(List)}
+     */
+    @Test
+    @DisplayName("Should return the outcome of each id of a bulk delete")
+    void testDeleteAll() throws Exception {
+        when(courseBulkDeleteService.deleteAll(List.of(1L, 2L))).thenReturn(List.of(
+                new CourseBulkDeleteResultDTO(1L, BulkOutcome.DELETED),
+                new CourseBulkDeleteResultDTO(2L, BulkOutcome.NOT_FOUND)));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[1,2]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].outcome", is("DELETED")))
+                .andExpect(jsonPath("$[1].outcome", is("NOT_FOUND")));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkController#deleteCategory(String)}
+     */
+    @Test
+    @DisplayName("Should delete the courses of the category given by its value")
+    void testDeleteCategory() throws Exception {
+        when(courseBulkDeleteService.deleteCategory(Category.FRONT_END)).thenReturn(List.of(
+                new CourseBulkDeleteResultDTO(3L, BulkOutcome.DELETED)));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/courses").param("category", "Front-end"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(3)))
+                .andExpect(jsonPath("$[0].outcome", is("DELETED")));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkController#importCsv(java.io.InputStream)}
+     */
+    @Test
+    @DisplayName("Should import the CSV request body and return the import summary")
+    void testImportCsv() throws Exception {
+        when(courseImportService.importCsv(any(Reader.class))).thenAnswer(invocation -> {
+            Reader reader = invocation.getArgument(0);
+            char[] buffer = new char[256];
+            int read = reader.read(buffer);
+            String csv = new String(buffer, 0, read);
+            return new CourseImportResultDTO(csv.lines().count() - 1, 1, 1, 0, List.of());
+        });
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/import")
+                .contentType("text/csv")
+                .content("course_name,category,lesson_name,youtube_id\nSpring Boot,Back-end,Intro,abcdefgh123\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows", is(1)))
+                .andExpect(jsonPath("$.coursesCreated", is(1)))
+                .andExpect(jsonPath("$.errors", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should refuse an import that is not sent as CSV")
+    void testImportCsvUnsupportedMediaType() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+}
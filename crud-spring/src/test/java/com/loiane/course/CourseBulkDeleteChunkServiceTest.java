@@ -0,0 +1,75 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.loiane.course.enums.Category;
+import com.loiane.course.event.CourseDeletedEvent;
+
+class CourseBulkDeleteChunkServiceTest {
+
+    private CourseRepository courseRepository;
+    private LessonRepository lessonRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private CourseBulkDeleteChunkService chunkService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        lessonRepository = mock(LessonRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        chunkService = new CourseBulkDeleteChunkService(courseRepository, lessonRepository, eventPublisher);
+    }
+
+    /**
+     * Method under test: {@link CourseBulkDeleteChunkService#deleteChunk(java.util.Collection)}
+     */
+    @Test
+    @DisplayName("Should soft-delete the active courses among the ids and delete their lessons")
+    void testDeleteChunk() {
+        when(courseRepository.lockActiveIds(List.of(1L, 2L, 3L))).thenReturn(List.of(1L, 3L));
+
+        assertThat(chunkService.deleteChunk(List.of(1L, 2L, 3L))).containsExactly(1L, 3L);
+        verify(lessonRepository).deleteAllByCourseIds(List.of(1L, 3L));
+        verify(courseRepository).softDeleteAll(List.of(1L, 3L));
+        verify(eventPublisher).publishEvent(new CourseDeletedEvent(1L));
+        verify(eventPublisher).publishEvent(new CourseDeletedEvent(3L));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkDeleteChunkService#deleteCategoryChunk(Category, int)}
+     */
+    @Test
+    @DisplayName("Should soft-delete up to the limit of active courses of the category")
+    void testDeleteCategoryChunk() {
+        when(courseRepository.lockActiveIdsByCategory("Front-end", 2)).thenReturn(List.of(4L, 5L));
+
+        assertThat(chunkService.deleteCategoryChunk(Category.FRONT_END, 2)).containsExactly(4L, 5L);
+        verify(courseRepository).softDeleteAll(List.of(4L, 5L));
+        verify(eventPublisher, times(2)).publishEvent(any(CourseDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should not run the update when no id is of an active course")
+    void testDeleteChunkNothingActive() {
+        when(courseRepository.lockActiveIds(List.of(7L))).thenReturn(List.of());
+
+        assertThat(chunkService.deleteChunk(List.of(7L))).isEmpty();
+        verify(courseRepository, never()).softDeleteAll(anyCollection());
+        verify(lessonRepository, never()).deleteAllByCourseIds(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
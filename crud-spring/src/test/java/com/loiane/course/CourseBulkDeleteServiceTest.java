@@ -0,0 +1,93 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loiane.course.dto.CourseBulkDeleteResultDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.course.enums.Category;
+
+class CourseBulkDeleteServiceTest {
+
+    private CourseBulkDeleteChunkService chunkService;
+    private final List<List<Long>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        chunkService = mock(CourseBulkDeleteChunkService.class);
+        // even ids are active courses
+        when(chunkService.deleteChunk(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> chunk = invocation.getArgument(0);
+            chunks.add(List.copyOf(chunk));
+            return chunk.stream().filter(id -> id % 2 == 0).toList();
+        });
+    }
+
+    /**
+     * Method under test: {@link CourseBulkDeleteService#deleteAll(List)}
+     */
+    @Test
+    @DisplayName("Should delete the ids in chunks and report each distinct id in request order")
+    void testDeleteAll() {
+        CourseBulkDeleteService service = new CourseBulkDeleteService(chunkService, 2);
+
+        List<CourseBulkDeleteResultDTO> results = service.deleteAll(List.of(4L, 1L, 2L, 4L, 6L));
+
+        assertThat(chunks).containsExactly(List.of(4L, 1L), List.of(2L, 6L));
+        assertThat(results).containsExactly(
+                new CourseBulkDeleteResultDTO(4L, BulkOutcome.DELETED),
+                new CourseBulkDeleteResultDTO(1L, BulkOutcome.NOT_FOUND),
+                new CourseBulkDeleteResultDTO(2L, BulkOutcome.DELETED),
+                new CourseBulkDeleteResultDTO(6L, BulkOutcome.DELETED));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkDeleteService#deleteCategory(Category)}
+     */
+    @Test
+    @DisplayName("Should delete the courses of a category chunk by chunk until a chunk is not full")
+    void testDeleteCategory() {
+        when(chunkService.deleteCategoryChunk(Category.FRONT_END, 2))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        CourseBulkDeleteService service = new CourseBulkDeleteService(chunkService, 2);
+
+        List<CourseBulkDeleteResultDTO> results = service.deleteCategory(Category.FRONT_END);
+
+        assertThat(results).extracting(CourseBulkDeleteResultDTO::id).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(results).extracting(CourseBulkDeleteResultDTO::outcome).containsOnly(BulkOutcome.DELETED);
+        verify(chunkService, times(3)).deleteCategoryChunk(eq(Category.FRONT_END), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should stop after one query when the category has no course")
+    void testDeleteEmptyCategory() {
+        when(chunkService.deleteCategoryChunk(Category.BACK_END, 500)).thenReturn(List.of());
+
+        assertThat(new CourseBulkDeleteService(chunkService, 500).deleteCategory(Category.BACK_END)).isEmpty();
+        verify(chunkService, times(1)).deleteCategoryChunk(eq(Category.BACK_END), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a chunk size outside the bulk limits")
+    void testInvalidChunkSize() {
+        assertThatThrownBy(() -> new CourseBulkDeleteService(chunkService, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CourseBulkDeleteService(chunkService, CourseBulkService.MAX_BULK_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
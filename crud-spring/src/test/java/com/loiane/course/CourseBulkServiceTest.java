@@ -0,0 +1,103 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.course.event.CourseSavedEvent;
+
+import jakarta.validation.Validation;
+
+class CourseBulkServiceTest {
+
+    private CourseRepository courseRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private CourseBulkService courseBulkService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        courseBulkService = new CourseBulkService(courseRepository, new CourseMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher);
+
+        // simulate the ids assigned on persist
+        AtomicLong ids = new AtomicLong();
+        when(courseRepository.saveAll(any())).thenAnswer(invocation -> {
+            Iterable<Course> courses = invocation.getArgument(0);
+            courses.forEach(course -> course.setId(ids.incrementAndGet()));
+            return courses;
+        });
+    }
+
+    /**
+     * Method under test: {@link CourseBulkService#createAll(List)}
+     */
+    @Test
+    @DisplayName("Should create valid courses and report invalid and duplicate ones, in request order")
+    void testCreateAll() {
+        when(courseRepository.findExistingNames(anyCollection())).thenReturn(List.of("Existing Course"));
+
+        List<CourseBulkResultDTO> results = courseBulkService.createAll(Arrays.asList(
+                request("Spring Boot"),
+                request("Spr"),
+                request("existing course"),
+                request("SPRING BOOT"),
+                null,
+                request("Angular")));
+
+        assertThat(results).extracting(CourseBulkResultDTO::index, CourseBulkResultDTO::outcome,
+                CourseBulkResultDTO::id)
+                .containsExactly(
+                        tuple(0, BulkOutcome.CREATED, 1L),
+                        tuple(1, BulkOutcome.INVALID, null),
+                        tuple(2, BulkOutcome.DUPLICATE, null),
+                        tuple(3, BulkOutcome.DUPLICATE, null),
+                        tuple(4, BulkOutcome.INVALID, null),
+                        tuple(5, BulkOutcome.CREATED, 2L));
+        assertThat(results.get(1).message()).startsWith("name: ");
+        assertThat(results.get(2).message()).isEqualTo("A course with name 'existing course' already exists");
+        verify(courseRepository).findExistingNames(List.of("Spring Boot", "Spr", "existing course",
+                "SPRING BOOT", "Angular"));
+        verify(courseRepository).flush();
+        verify(eventPublisher, times(2)).publishEvent(any(CourseSavedEvent.class));
+    }
+
+    /**
+     * Method under test: {@link CourseBulkService#createAll(List)}
+     */
+    @Test
+    @DisplayName("Should not look up names when no course of the request has one")
+    void testCreateAllWithoutNames() {
+        List<CourseBulkResultDTO> results = courseBulkService.createAll(
+                List.of(new CourseRequestDTO(null, "Back-end", List.of())));
+
+        assertThat(results).extracting(CourseBulkResultDTO::outcome).containsExactly(BulkOutcome.INVALID);
+        verify(courseRepository, never()).findExistingNames(anyCollection());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static CourseRequestDTO request(String name) {
+        return new CourseRequestDTO(name, "Back-end", List.of(new LessonDTO(null, "Introduction", "abcdefgh123")));
+    }
+}
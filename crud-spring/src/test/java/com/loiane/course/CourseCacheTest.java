@@ -0,0 +1,121 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.LessonPatchDTO;
+import com.loiane.course.enums.Category;
+import com.loiane.exception.BusinessException;
+import com.loiane.exception.RecordNotFoundException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Read-through caching of {@link CourseService#findVersionedById(Long)} and its
+ * invalidation on writes, against the real cache manager and database.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class CourseCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CourseService.COURSE_CACHE);
+        cache.clear();
+    }
+
+    @Test
+    @DisplayName("Should cache a course read by id and evict it when the course is updated or deleted")
+    void testFindByIdCachedAndEvicted() {
+        CourseDTO created = courseService.create(request("Cached Course"));
+        assertThat(cache.get(created.id())).isNull();
+
+        VersionedCourse found = courseService.findVersionedById(created.id());
+        assertThat(cache.get(created.id(), VersionedCourse.class)).isEqualTo(found);
+        assertThat(courseService.findVersionedById(created.id())).isSameAs(found);
+
+        courseService.update(created.id(), request("Cached Course Renamed"));
+        assertThat(cache.get(created.id())).isNull();
+        VersionedCourse updated = courseService.findVersionedById(created.id());
+        assertThat(updated.course().name()).isEqualTo("Cached Course Renamed");
+        assertThat(updated.version()).isGreaterThan(found.version())
+                .isEqualTo(courseService.findVersion(created.id()));
+
+        // a lesson-only change still bumps the course version (and its ETag)
+        Long lessonId = created.lessons().get(0)._id();
+        courseService.update(created.id(), new CourseRequestDTO("Cached Course Renamed",
+                Category.BACK_END.getValue(), List.of(new LessonDTO(lessonId, "Renamed lesson", "abcdefgh123"))));
+        assertThat(cache.get(created.id())).isNull();
+        assertThat(courseService.findVersion(created.id())).isGreaterThan(updated.version());
+
+        courseService.delete(created.id());
+        assertThat(cache.get(created.id())).isNull();
+        assertThrows(RecordNotFoundException.class, () -> courseService.findVersionedById(created.id()));
+    }
+
+    @Test
+    @DisplayName("Should evict the course and bump its version when a single lesson changes")
+    void testLessonChangesEvict() {
+        CourseDTO created = courseService.create(request("Lesson Cache Course"));
+        Long lessonId = created.lessons().get(0)._id();
+        Long version = courseService.findVersionedById(created.id()).version();
+
+        LessonDTO added = lessonService.create(created.id(), new LessonDTO(null, "Second lesson", "abcdefgh456"));
+        assertThat(cache.get(created.id())).isNull();
+        VersionedCourse withTwoLessons = courseService.findVersionedById(created.id());
+        assertThat(withTwoLessons.version()).isGreaterThan(version);
+        assertThat(withTwoLessons.course().lessons()).extracting(LessonDTO::_id).containsExactly(lessonId, added._id());
+
+        lessonService.update(created.id(), lessonId, new LessonPatchDTO("Renamed lesson", null));
+        assertThat(cache.get(created.id())).isNull();
+        VersionedCourse renamed = courseService.findVersionedById(created.id());
+        assertThat(renamed.version()).isGreaterThan(withTwoLessons.version());
+        assertThat(renamed.course().lessons().get(0).name()).isEqualTo("Renamed lesson");
+
+        lessonService.delete(created.id(), added._id());
+        assertThat(cache.get(created.id())).isNull();
+        assertThat(courseService.findVersionedById(created.id()).course().lessons()).hasSize(1);
+        assertThrows(BusinessException.class, () -> lessonService.delete(created.id(), lessonId));
+        assertThrows(RecordNotFoundException.class, () -> lessonService.findById(created.id(), added._id()));
+    }
+
+    @Test
+    @DisplayName("Should publish cache hit and miss metrics")
+    void testCacheMetrics() {
+        assertThat(meterRegistry.find("cache.gets").tag("cache", CourseService.COURSE_CACHE).meters())
+                .isNotEmpty();
+    }
+
+    private static CourseRequestDTO request(String name) {
+        return new CourseRequestDTO(name, Category.BACK_END.getValue(),
+                List.of(new LessonDTO(null, "Introduction", "abcdefgh123")));
+    }
+}
@@ -1,5 +1,6 @@
 package com.loiane.course;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -9,12 +10,17 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +28,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
@@ -32,12 +42,21 @@ import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilde
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.WebRequest;
 
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 import com.loiane.config.ValidationAdvice;
+import com.loiane.course.dto.CourseCursorPageDTO;
 import com.loiane.course.dto.CourseDTO;
 import com.loiane.course.dto.CoursePageDTO;
 import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSliceDTO;
+import com.loiane.course.dto.CourseSummaryDTO;
+import com.loiane.course.dto.CourseSummaryPageDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
 import com.loiane.exception.RecordNotFoundException;
 
 import jakarta.servlet.ServletException;
@@ -66,53 +85,271 @@ class CourseControllerTest {
     }
 
     /**
-     * Method under test: {@link CourseController#findAll(int, int)}
+     * Method under test: {@link CourseController#findAll(int, int, String, WebRequest)}
      */
     @Test
-    @DisplayName("Should return a list of courses in JSON format")
+    @DisplayName("Should return a list of courses in JSON format, tagged without a separate version query")
     void testFindAll() throws Exception {
-        CourseDTO course = TestData.createValidCourseDTO();
-        List<CourseDTO> courses = List.of(course);
-        CoursePageDTO pageDTO = new CoursePageDTO(courses, 1L, 1);
-        when(this.courseService.findAll(anyInt(), anyInt())).thenReturn(pageDTO);
+        Course course = TestData.createValidCourse();
+        List<Course> courses = List.of(course);
+        when(this.courseService.findVersionedPage(anyInt(), anyInt()))
+                .thenReturn(new VersionedCoursePage(new CoursePage(courses, 1L, 1), "abc123"));
         MockMvcBuilders.standaloneSetup(this.courseController)
+                .setMessageConverters(pageConverter())
                 .build()
                 .perform(MockMvcRequestBuilders.get(API))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-json\""))
                 .andExpect(jsonPath("courses", hasSize(courses.size())))
                 .andExpect(jsonPath("totalElements", is(1)))
+                .andExpect(jsonPath("courses[0]._id", is(course.getId()), Long.class))
+                .andExpect(jsonPath("courses[0].name", is(course.getName())))
+                .andExpect(jsonPath("courses[0].category", is(course.getCategory().getValue())));
+        verify(this.courseService, never()).findVersionTag(anyInt(), anyInt());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findAll(int, int, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should return 304 without loading the page when its ETag matches")
+    void testFindAllNotModified() throws Exception {
+        when(this.courseService.findVersionTag(0, 10)).thenReturn("abc123");
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API).header(HttpHeaders.IF_NONE_MATCH, "\"abc123-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-json\""))
+                .andExpect(content().string(""));
+        verify(this.courseService, never()).findVersionedPage(anyInt(), anyInt());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findAll(int, int, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should send the page with the ETag of the courses it lists when the ETag no longer matches")
+    void testFindAllModified() throws Exception {
+        when(this.courseService.findVersionTag(0, 10)).thenReturn("def456");
+        when(this.courseService.findVersionedPage(0, 10)).thenReturn(new VersionedCoursePage(
+                new CoursePage(List.of(TestData.createValidCourse()), 1L, 1), "def456"));
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .setMessageConverters(pageConverter())
+                .build()
+                .perform(MockMvcRequestBuilders.get(API).header(HttpHeaders.IF_NONE_MATCH, "\"abc123-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"def456-json\""))
+                .andExpect(jsonPath("courses", hasSize(1)));
+    }
+
+    /**
+     * Method under test: {@link CourseController#findAll(int, int, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should write the page in the format the client prefers")
+    void testFindAllNegotiatesFormat() throws Exception {
+        Course course = TestData.createValidCourse();
+        when(this.courseService.findVersionedPage(0, 10))
+                .thenReturn(new VersionedCoursePage(new CoursePage(List.of(course), 1L, 1), "abc123"));
+        // what databind writes for the DTO of the page
+        CoursePageDTO pageDTO = new CoursePageDTO(List.of(new CourseMapper().toDTO(course)), 1L, 1);
+        CBORMapper cborMapper = new CBORMapper();
+        SmileMapper smileMapper = new SmileMapper();
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(this.courseController)
+                .setMessageConverters(new CoursePageHttpMessageConverter(JsonMapper.builder().build(), cborMapper,
+                        smileMapper))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(content().bytes(cborMapper.writeValueAsBytes(pageDTO)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API)
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CoursePageHttpMessageConverter.APPLICATION_SMILE))
+                .andExpect(content().bytes(smileMapper.writeValueAsBytes(pageDTO)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API).accept(MediaType.APPLICATION_XML))
+                .andExpect(status().isNotAcceptable());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findAll(int, int, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should tag each format of the same page differently and only answer 304 for its own")
+    void testFindAllETagPerFormat() throws Exception {
+        when(this.courseService.findVersionTag(0, 10)).thenReturn("abc123");
+        when(this.courseService.findVersionedPage(0, 10)).thenReturn(new VersionedCoursePage(
+                new CoursePage(List.of(TestData.createValidCourse()), 1L, 1), "abc123"));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(this.courseController)
+                .setMessageConverters(pageConverter())
+                .build();
+
+        Set<String> eTags = new HashSet<>();
+        for (MediaType mediaType : CoursePageHttpMessageConverter.MEDIA_TYPES) {
+            eTags.add(mockMvc.perform(MockMvcRequestBuilders.get(API).accept(mediaType))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG));
+        }
+        assertThat(eTags).containsExactlyInAnyOrder("\"abc123-json\"", "\"abc123-cbor\"", "\"abc123-smile\"");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API).accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-cbor\""));
+        mockMvc.perform(MockMvcRequestBuilders.get(API).accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"abc123-cbor\""))
+                .andExpect(status().isNotModified());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findSlice(int, int)}
+     */
+    @Test
+    @DisplayName("Should return a page without totals when count is disabled")
+    void testFindSlice() throws Exception {
+        CourseDTO course = TestData.createValidCourseDTO();
+        when(this.courseService.findSlice(0, 10)).thenReturn(new CourseSliceDTO(List.of(course), false));
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API).param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("courses", hasSize(1)))
+                .andExpect(jsonPath("hasNext", is(false)))
+                .andExpect(jsonPath("totalElements").doesNotExist());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findSummaries(int, int)}
+     */
+    @Test
+    @DisplayName("Should return course summaries without lessons")
+    void testFindSummaries() throws Exception {
+        CourseSummaryDTO summary = new CourseSummaryDTO(1L, "Spring", "Back-end", 3);
+        when(this.courseService.findSummaries(0, 10))
+                .thenReturn(new CourseSummaryPageDTO(List.of(summary), 1L, 1));
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API + "/summary"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("courses", hasSize(1)))
+                .andExpect(jsonPath("courses[0]._id", is(1L), Long.class))
+                .andExpect(jsonPath("courses[0].lessonCount", is(3)))
+                .andExpect(jsonPath("courses[0].lessons").doesNotExist())
+                .andExpect(jsonPath("totalElements", is(1)));
+    }
+
+    /**
+     * Method under test: {@link CourseController#findAllAfter(String, int)}
+     */
+    @Test
+    @DisplayName("Should return a keyset page when the after parameter is present")
+    void testFindAllAfter() throws Exception {
+        CourseDTO course = TestData.createValidCourseDTO();
+        when(this.courseService.findAllAfter("", 10)).thenReturn(new CourseCursorPageDTO(List.of(course), "next"));
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API).param("after", ""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("courses", hasSize(1)))
                 .andExpect(jsonPath("courses[0]._id", is(course.id()), Long.class))
-                .andExpect(jsonPath("courses[0].name", is(course.name())))
-                .andExpect(jsonPath("courses[0].category", is(course.category())));
+                .andExpect(jsonPath("nextCursor", is("next")));
     }
 
     /**
-     * Method under test: {@link CourseController#findById(Long)}
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
      */
     @Test
     @DisplayName("Should return a course by id")
     void testFindById() throws Exception {
         CourseDTO course = TestData.createValidCourseDTO();
-        when(this.courseService.findById(anyLong())).thenReturn(course);
-        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(API_ID, course.id());
+        when(this.courseService.findVersion(anyLong())).thenReturn(2L);
+        when(this.courseService.findVersionedById(anyLong())).thenReturn(new VersionedCourse(course, 2L));
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(API_ID, course.id())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-1-json\"");
         MockMvcBuilders.standaloneSetup(this.courseController)
                 .build()
                 .perform(requestBuilder)
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2-json\""))
                 .andExpect(jsonPath("_id", is(course.id()), Long.class))
                 .andExpect(jsonPath("name", is(course.name())))
                 .andExpect(jsonPath("category", is(course.category())));
     }
 
     /**
-     * Method under test: {@link CourseController#findById(Long)}
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should not read the version on its own for an unconditional request")
+    void testFindByIdUnconditional() throws Exception {
+        when(this.courseService.findVersionedById(1L))
+                .thenReturn(new VersionedCourse(TestData.createValidCourseDTO(), 2L));
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API_ID, 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2-json\""));
+        verify(this.courseService, never()).findVersion(anyLong());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should return 304 without loading the course when its ETag matches")
+    void testFindByIdNotModified() throws Exception {
+        when(this.courseService.findVersion(1L)).thenReturn(2L);
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.get(API_ID, 1L).header(HttpHeaders.IF_NONE_MATCH, "\"1-2-json\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2-json\""));
+        verify(this.courseService, never()).findVersionedById(anyLong());
+    }
+
+    /**
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
+     */
+    @Test
+    @DisplayName("Should tag each format of the same course differently")
+    void testFindByIdETagPerFormat() throws Exception {
+        when(this.courseService.findVersion(1L)).thenReturn(2L);
+        when(this.courseService.findVersionedById(1L))
+                .thenReturn(new VersionedCourse(TestData.createValidCourseDTO(), 2L));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(this.courseController)
+                .setMessageConverters(new JacksonJsonHttpMessageConverter(),
+                        new JacksonCborHttpMessageConverter(new CBORMapper()),
+                        new JacksonSmileHttpMessageConverter(new SmileMapper()))
+                .build();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(API_ID, 1L).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2-cbor\""));
+        mockMvc.perform(MockMvcRequestBuilders.get(API_ID, 1L)
+                .accept(CoursePageHttpMessageConverter.APPLICATION_SMILE)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1-2-json\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2-smile\""));
+    }
+
+    /**
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
      */
     @Test
     @DisplayName("Should return a 404 status code when course is not found")
     void testFindByIdNotFound() {
-        when(this.courseService.findById(anyLong())).thenThrow(new RecordNotFoundException(1L));
+        when(this.courseService.findVersionedById(anyLong())).thenThrow(new RecordNotFoundException(1L));
         MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(API_ID, 1);
         assertThrows(ServletException.class, () -> {
             ResultActions actualPerformResult = MockMvcBuilders.standaloneSetup(this.courseController)
@@ -123,7 +360,7 @@ class CourseControllerTest {
     }
 
     /**
-     * Method under test: {@link CourseController#findById(Long)}
+     * Method under test: {@link CourseController#findById(Long, String, WebRequest)}
      */
     @Test
     @DisplayName("Should return bad request status code when id is not a positive number")
@@ -305,6 +542,19 @@ class CourseControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isNoContent());
     }
 
+    /**
+     * Method under test: {@link CourseController#delete(Long)}
+     */
+    @Test
+    @DisplayName("Should delete whatever the client accepts, since there is no body to negotiate")
+    void testDeleteAcceptingAnyFormat() throws Exception {
+        MockMvcBuilders.standaloneSetup(this.courseController)
+                .build()
+                .perform(MockMvcRequestBuilders.delete(API_ID, 1).accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isNoContent());
+        verify(this.courseService).delete(1L);
+    }
+
     /**
      * Method under test: {@link CourseController#delete(Long)}
      */
@@ -336,4 +586,7 @@ class CourseControllerTest {
         });
     }
 
+    private static CoursePageHttpMessageConverter pageConverter() {
+        return new CoursePageHttpMessageConverter(JsonMapper.builder().build(), new CBORMapper(), new SmileMapper());
+    }
 }
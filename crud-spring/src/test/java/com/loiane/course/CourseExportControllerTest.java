@@ -0,0 +1,75 @@
+package com.loiane.course;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.LessonDTO;
+
+import tools.jackson.databind.json.JsonMapper;
+
+class CourseExportControllerTest {
+
+    private CourseService courseService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        courseService = mock(CourseService.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new CourseExportController(courseService, JsonMapper.builder().build()))
+                .build();
+    }
+
+    /**
+     * Method under test: {@link CourseExportController#export(jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Test
+    @DisplayName("Should write one JSON course per line")
+    void testExport() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<CourseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(new CourseDTO(1L, "Angular", "Front-end",
+                    List.of(new LessonDTO(1L, "Components", "abcdefgh123"))));
+            consumer.accept(new CourseDTO(2L, "Spring", "Back-end", List.of()));
+            return null;
+        }).when(courseService).exportAll(any());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"courses.ndjson\""))
+                .andExpect(content().string("""
+                        {"_id":1,"name":"Angular","category":"Front-end","lessons":[{"_id":1,"name":"Components","youtubeUrl":"abcdefgh123"}]}
+                        {"_id":2,"name":"Spring","category":"Back-end","lessons":[]}
+                        """));
+    }
+
+    /**
+     * Method under test: {@link CourseExportController#export(jakarta.servlet.http.HttpServletResponse)}
+     */
+    @Test
+    @DisplayName("Should return an empty body when the catalog is empty")
+    void testExportEmpty() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+}
@@ -0,0 +1,173 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseImportErrorDTO;
+import com.loiane.course.dto.CourseImportResultDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.enums.BulkOutcome;
+import com.loiane.shared.csv.CsvFormatException;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+class CourseImportServiceTest {
+
+    private static final String HEADER = "course_name,category,lesson_name,youtube_id\n";
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private CourseBulkService courseBulkService;
+    private final List<List<CourseRequestDTO>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        courseBulkService = mock(CourseBulkService.class);
+        // every course of a chunk is created
+        when(courseBulkService.createAll(anyList())).thenAnswer(invocation -> {
+            List<CourseRequestDTO> chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            return IntStream.range(0, chunk.size())
+                    .mapToObj(i -> new CourseBulkResultDTO(i, (long) i + 1, BulkOutcome.CREATED, null))
+                    .toList();
+        });
+    }
+
+    /**
+     * Method under test: {@link CourseImportService#importCsv(Reader)}
+     */
+    @Test
+    @DisplayName("Should group contiguous rows into courses and create them in chunks")
+    void testImportCsv() {
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 2);
+
+        CourseImportResultDTO result = service.importCsv(new StringReader(HEADER
+                + "Spring Boot,Back-end,Introduction,abcdefgh123\n"
+                + "Spring Boot,Back-end,Controllers,abcdefgh456\n"
+                + "Angular Basics,Front-end,Components,abcdefgh789\n"
+                + "\n"
+                + "\"Java, the Basics\",Back-end,Variables,abcdefgh000\n"));
+
+        assertThat(result.rows()).isEqualTo(4);
+        assertThat(result.coursesCreated()).isEqualTo(3);
+        assertThat(result.lessonsCreated()).isEqualTo(4);
+        assertThat(result.coursesRejected()).isZero();
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0)).extracting(CourseRequestDTO::name).containsExactly("Spring Boot", "Angular Basics");
+        assertThat(chunks.get(0).get(0).lessons()).hasSize(2);
+        assertThat(chunks.get(1)).extracting(CourseRequestDTO::name).containsExactly("Java, the Basics");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid courses as a whole, reporting the line of the first error")
+    void testImportCsvInvalidRows() {
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 500);
+
+        CourseImportResultDTO result = service.importCsv(new StringReader(HEADER
+                + "Spring Boot,Back-end,Introduction,abcdefgh123\n"
+                + "Spring Boot,Back-end,Controllers,not a video id\n"
+                + "Spr,Back-end,Introduction,abcdefgh123\n"
+                + "Angular Basics,Front-end,Components\n"
+                + "Vue Basics,Front-end,Components,abcdefgh789\n"
+                + "Vue Basics,Back-end,Routing,abcdefgh000\n"
+                + "Java Basics,Back-end,Variables,abcdefgh000\n"));
+
+        assertThat(result.coursesCreated()).isEqualTo(1);
+        assertThat(result.coursesRejected()).isEqualTo(4);
+        assertThat(result.errors()).extracting(CourseImportErrorDTO::line).containsExactly(3L, 4L, 5L, 7L);
+        assertThat(result.errors().get(0).message()).startsWith("youtubeUrl: ");
+        assertThat(result.errors().get(1).message()).startsWith("name: ");
+        assertThat(result.errors().get(2).message()).isEqualTo("expected 4 columns but found 3");
+        assertThat(result.errors().get(3).message()).isEqualTo("category differs from the first row of the course");
+        assertThat(chunks).singleElement().satisfies(chunk -> assertThat(chunk)
+                .extracting(CourseRequestDTO::name).containsExactly("Java Basics"));
+    }
+
+    @Test
+    @DisplayName("Should report courses the bulk service rejects, such as existing names")
+    void testImportCsvDuplicate() {
+        when(courseBulkService.createAll(anyList())).thenReturn(List.of(
+                new CourseBulkResultDTO(0, null, BulkOutcome.DUPLICATE, "A course with name 'Spring Boot' already exists"),
+                new CourseBulkResultDTO(1, 2L, BulkOutcome.CREATED, null)));
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 500);
+
+        CourseImportResultDTO result = service.importCsv(new StringReader(HEADER
+                + "Spring Boot,Back-end,Introduction,abcdefgh123\n"
+                + "Angular Basics,Front-end,Components,abcdefgh789\n"
+                + "Angular Basics,Front-end,Services,abcdefgh456\n"));
+
+        assertThat(result.coursesCreated()).isEqualTo(1);
+        assertThat(result.lessonsCreated()).isEqualTo(2);
+        assertThat(result.errors()).extracting(CourseImportErrorDTO::line, CourseImportErrorDTO::message)
+                .containsExactly(tuple(2L, "A course with name 'Spring Boot' already exists"));
+    }
+
+    @Test
+    @DisplayName("Should cap the number of reported errors but count all rejected courses")
+    void testImportCsvErrorCap() {
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 500);
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 0; i < CourseImportService.MAX_REPORTED_ERRORS + 5; i++) {
+            csv.append("Course ").append(i).append(",Back-end,Lesson,bad\n");
+        }
+
+        CourseImportResultDTO result = service.importCsv(new StringReader(csv.toString()));
+
+        assertThat(result.coursesRejected()).isEqualTo(CourseImportService.MAX_REPORTED_ERRORS + 5L);
+        assertThat(result.errors()).hasSize(CourseImportService.MAX_REPORTED_ERRORS);
+        verify(courseBulkService, never()).createAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should refuse a file without the expected header")
+    void testImportCsvWrongHeader() {
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 500);
+
+        assertThatThrownBy(() -> service.importCsv(new StringReader("name,category\nSpring Boot,Back-end\n")))
+                .isInstanceOf(CsvFormatException.class)
+                .hasMessageStartingWith("CSV line 1: expected the header");
+        verify(courseBulkService, never()).createAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep the chunks committed before a malformed row")
+    void testImportCsvMalformed() {
+        CourseImportService service = new CourseImportService(courseBulkService, validator, 1);
+        ArgumentCaptor<List<CourseRequestDTO>> chunk = ArgumentCaptor.captor();
+
+        assertThatThrownBy(() -> service.importCsv(new StringReader(HEADER
+                + "Spring Boot,Back-end,Introduction,abcdefgh123\n"
+                + "Angular Basics,Front-end,Components,abcdefgh789\n"
+                + "\"Java Basics,Back-end,Variables,abcdefgh000\n")))
+                .isInstanceOf(CsvFormatException.class);
+        verify(courseBulkService, times(1)).createAll(chunk.capture());
+        assertThat(chunk.getValue()).extracting(CourseRequestDTO::name).containsExactly("Spring Boot");
+    }
+
+    @Test
+    @DisplayName("Should refuse a chunk size above the bulk limit")
+    void testInvalidChunkSize() {
+        assertThatThrownBy(() -> new CourseImportService(courseBulkService, validator,
+                CourseBulkService.MAX_BULK_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
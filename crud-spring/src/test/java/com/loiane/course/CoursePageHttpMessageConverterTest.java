@@ -0,0 +1,166 @@
+package com.loiane.course;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CoursePageDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.enums.Category;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+class CoursePageHttpMessageConverterTest {
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final SmileMapper smileMapper = new SmileMapper();
+    private final CoursePageHttpMessageConverter converter = new CoursePageHttpMessageConverter(jsonMapper,
+            cborMapper, smileMapper);
+
+    /**
+     * Method under test:
+     * {@link CoursePageHttpMessageConverter#write(CoursePage, MediaType, OutputStream)}
+     */
+    @Test
+    @DisplayName("Should write the same bytes as databind writes for the page DTO of the same courses")
+    void testWriteJsonMatchesDatabind() {
+        CoursePage page = page();
+        CoursePageDTO pageDTO = toDTO(page);
+
+        assertThat(toJson(page)).asString(UTF_8).isEqualTo(new String(jsonMapper.writeValueAsBytes(pageDTO), UTF_8));
+        assertThat(toJson(page)).isEqualTo(jsonMapper.writeValueAsBytes(pageDTO));
+    }
+
+    /**
+     * Method under test:
+     * {@link CoursePageHttpMessageConverter#write(CoursePage, MediaType, OutputStream)}
+     */
+    @Test
+    @DisplayName("Should write the same CBOR and Smile as databind, smaller than the JSON")
+    void testWriteBinaryFormatsMatchDatabind() {
+        CoursePage page = page();
+        CoursePageDTO pageDTO = toDTO(page);
+
+        byte[] cbor = write(page, MediaType.APPLICATION_CBOR);
+        byte[] smile = write(page, CoursePageHttpMessageConverter.APPLICATION_SMILE);
+
+        assertThat(cbor).isEqualTo(cborMapper.writeValueAsBytes(pageDTO));
+        assertThat(smile).isEqualTo(smileMapper.writeValueAsBytes(pageDTO));
+        assertThat(cborMapper.readValue(cbor, CoursePageDTO.class)).isEqualTo(pageDTO);
+        assertThat(cbor.length).isLessThan(toJson(page).length);
+        assertThat(smile.length).isLessThan(toJson(page).length);
+    }
+
+    /**
+     * Method under test:
+     * {@link CoursePageHttpMessageConverter#write(Object, MediaType, org.springframework.http.HttpOutputMessage)}
+     */
+    @Test
+    @DisplayName("Should write the response body in its content type")
+    void testWriteResponse() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        CoursePage page = page();
+
+        converter.write(page, CoursePageHttpMessageConverter.APPLICATION_SMILE, outputMessage);
+
+        assertThat(outputMessage.getHeaders().getContentType())
+                .isEqualTo(CoursePageHttpMessageConverter.APPLICATION_SMILE);
+        assertThat(outputMessage.getBodyAsBytes()).isEqualTo(smileMapper.writeValueAsBytes(toDTO(page)));
+    }
+
+    @Test
+    @DisplayName("Should only write course pages, in the three formats")
+    void testSupports() {
+        assertThat(converter.canWrite(CoursePage.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canWrite(CoursePage.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(CoursePageDTO.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(Course.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(CoursePage.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should refuse a format it cannot write")
+    void testWriteUnsupportedFormat() {
+        CoursePage page = page();
+        assertThatThrownBy(() -> write(page, MediaType.APPLICATION_XML))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should write an empty page with its totals")
+    void testWriteEmptyPage() {
+        CoursePage page = new CoursePage(List.of(), 25, 3);
+
+        assertThat(toJson(page)).isEqualTo(jsonMapper.writeValueAsBytes(new CoursePageDTO(List.of(), 25, 3)));
+        assertThat(toJson(page)).asString(UTF_8).isEqualTo("{\"courses\":[],\"totalElements\":25,\"totalPages\":3}");
+    }
+
+    @Test
+    @DisplayName("Should write null for the fields of an incomplete course, as databind does")
+    void testWriteNullFields() {
+        Course course = new Course();
+        course.addLesson(new Lesson());
+        CoursePage page = new CoursePage(List.of(course), 1, 1);
+
+        assertThat(toJson(page)).asString(UTF_8).isEqualTo("{\"courses\":[{\"_id\":null,\"name\":null,"
+                + "\"category\":null,\"lessons\":[{\"_id\":null,\"name\":null,\"youtubeUrl\":null}]}],"
+                + "\"totalElements\":1,\"totalPages\":1}");
+        assertThat(toJson(page)).isEqualTo(jsonMapper.writeValueAsBytes(new CoursePageDTO(
+                List.of(new CourseDTO(null, null, null, List.of(new LessonDTO(null, null, null)))), 1, 1)));
+    }
+
+    private byte[] toJson(CoursePage page) {
+        return write(page, MediaType.APPLICATION_JSON);
+    }
+
+    private byte[] write(CoursePage page, MediaType mediaType) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.write(page, mediaType, out);
+        return out.toByteArray();
+    }
+
+    private CoursePageDTO toDTO(CoursePage page) {
+        return new CoursePageDTO(page.courses().stream().map(courseMapper::toDTO).toList(), page.totalElements(),
+                page.totalPages());
+    }
+
+    private static CoursePage page() {
+        Course withLessons = course(1L, "Introdução ao \"Angular\" \\ <HTML> & CSS", Category.FRONT_END);
+        withLessons.addLesson(lesson(10L, "Lesson 1: Getting Started", "dQw4w9WgXcQ"));
+        withLessons.addLesson(lesson(11L, "Lição 2\tTabs\nand lines", "abcdefgh_12"));
+        Course withoutLessons = course(2L, "Spring Boot", Category.BACK_END);
+        return new CoursePage(List.of(withLessons, withoutLessons), 7, 4);
+    }
+
+    private static Course course(Long id, String name, Category category) {
+        Course course = new Course();
+        course.setId(id);
+        course.setName(name);
+        course.setCategory(category);
+        return course;
+    }
+
+    private static Lesson lesson(Long id, String name, String youtubeUrl) {
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName(name);
+        lesson.setYoutubeUrl(youtubeUrl);
+        return lesson;
+    }
+}
@@ -0,0 +1,237 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.cookie;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSummaryDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.Category;
+import com.loiane.shared.datasource.ReadYourWritesFilter;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Read-replica routing against two H2 databases: the replica starts as a copy
+ * of the primary, then only its copy of a course is renamed, which shows
+ * where each read went.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.read-replicas.urls=" + CourseReadReplicaTest.REPLICA_URL })
+class CourseReadReplicaTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate primary = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:primary", "sa", "password"));
+    // one connection for good: H2 check constraints keep a reference to the session that created them
+    private static final JdbcTemplate replica = new JdbcTemplate(
+            new SingleConnectionDataSource(REPLICA_URL, "sa", "password", true));
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(readYourWritesFilter).build();
+    }
+
+    @Test
+    @DisplayName("Should read from the replica in read-only transactions and write to the primary")
+    void testRouting() {
+        CourseDTO created = courseService.create(request("Replicated Course"));
+        replicate();
+        replica.update("UPDATE course SET name = 'Replica Copy' WHERE id = ?", created.id());
+
+        assertThat(names(courseService.findSummaries(0, 100).courses())).contains("Replica Copy");
+
+        courseService.update(created.id(), request("Renamed On Primary"));
+        assertThat(primary.queryForObject("SELECT name FROM course WHERE id = ?", String.class, created.id()))
+                .isEqualTo("Renamed On Primary");
+        assertThat(replica.queryForObject("SELECT name FROM course WHERE id = ?", String.class, created.id()))
+                .isEqualTo("Replica Copy");
+        // Spring Data's own finders are read-only transactions too; the update
+        // cached the primary's copy in the second-level cache, so drop it first
+        entityManagerFactory.getCache().evict(Course.class, created.id());
+        assertThat(courseRepository.findById(created.id())).get()
+                .extracting(Course::getName).isEqualTo("Replica Copy");
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while the client sends the cookie set by its last write")
+    void testReadYourWrites() throws Exception {
+        Cookie afterWrite = mockMvc.perform(MockMvcRequestBuilders.post("/api/courses")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name": "Client Course", "category": "Back-end",
+                         "lessons": [{"name": "Lesson 1", "youtubeUrl": "abcdefgh123"}]}
+                        """))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().maxAge(ReadYourWritesFilter.COOKIE, 5))
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        // a replica copy that differs stands in for replication lag
+        replicate();
+        replica.update("UPDATE course SET name = 'Stale Copy' WHERE name = 'Client Course'");
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/summary").param("pageSize", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[?(@.name == 'Stale Copy')]").exists());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/summary").param("pageSize", "100")
+                .cookie(afterWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[?(@.name == 'Client Course')]").exists())
+                .andExpect(jsonPath("$.courses[?(@.name == 'Stale Copy')]").doesNotExist());
+    }
+
+    /**
+     * The writer renames a course and the replica has not caught up yet: a
+     * read by another client, which misses the cache the write evicted, must
+     * not cache the replica's copy nor version it, and the writer must then
+     * read its rename back.
+     */
+    @Test
+    @DisplayName("Should fill the course cache and check versions on the primary after a write")
+    void testCourseCacheAfterWrite() throws Exception {
+        Long id = courseService.create(request("Cached Course")).id();
+        replicate();
+        String eTagBeforeRename = mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Cookie afterWrite = mockMvc.perform(MockMvcRequestBuilders.put("/api/courses/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name": "Renamed Cached Course", "category": "Back-end",
+                         "lessons": [{"name": "Lesson 1", "youtubeUrl": "abcdefgh123"}]}
+                        """))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(replica.queryForObject("SELECT name FROM course WHERE id = ?", String.class, id))
+                .isEqualTo("Cached Course");
+
+        // another client
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed Cached Course"));
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/{id}", id)
+                .header(HttpHeaders.IF_NONE_MATCH, eTagBeforeRename))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTagBeforeRename)));
+        // the writer
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/{id}", id).cookie(afterWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed Cached Course"));
+    }
+
+    /**
+     * The writer adds a lesson, which evicts the course's lessons from the
+     * Hibernate second-level cache, and the replica has not caught up yet: a
+     * read by another client served by the replica must not put the old
+     * lessons back in the cache, where the writer's read would find them.
+     */
+    @Test
+    @DisplayName("Should not fill the second-level cache from a replica read after a write")
+    void testSecondLevelCacheAfterWrite() throws Exception {
+        Long id = courseService.create(request("Second-Level Cached Course")).id();
+        replicate();
+
+        Cookie afterWrite = mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/{id}/lessons", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"name": "Lesson 2", "youtubeUrl": "abcdefgh456"}
+                        """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getCookie(ReadYourWritesFilter.COOKIE);
+
+        // another client, served by the replica
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses").param("after", "").param("pageSize", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[*].lessons[*].name", not(hasItem("Lesson 2"))));
+        // the writer
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/{id}", id).cookie(afterWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lessons[*].name", containsInAnyOrder("Lesson 1", "Lesson 2")));
+    }
+
+    /**
+     * Copies the rows of the primary to the replica, as replication would.
+     */
+    private static void replicate() {
+        replica.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        replica.execute("TRUNCATE TABLE lesson");
+        replica.execute("TRUNCATE TABLE course");
+        script().stream().filter(statement -> statement.startsWith("INSERT INTO")).forEach(replica::execute);
+        replica.execute("SET REFERENTIAL_INTEGRITY TRUE");
+    }
+
+    private static List<String> script() {
+        return primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReplicaSchema {
+
+        // Hibernate creates the schema on the primary, and the search index is
+        // built from the replica once the app is ready
+        @Bean
+        ApplicationListener<ContextRefreshedEvent> replicateSchema() {
+            return event -> script().stream().filter(statement -> !statement.startsWith("CREATE USER"))
+                    .forEach(replica::execute);
+        }
+    }
+
+    private static List<String> names(List<CourseSummaryDTO> courses) {
+        return courses.stream().map(CourseSummaryDTO::name).toList();
+    }
+
+    private static CourseRequestDTO request(String name) {
+        return new CourseRequestDTO(name, Category.BACK_END.getValue(),
+                List.of(new LessonDTO(null, "Lesson 1", "abcdefgh123")));
+    }
+}
@@ -1,9 +1,11 @@
 package com.loiane.course;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,10 +13,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.loiane.config.TestContainersConfiguration;
+import com.loiane.course.dto.CourseSummaryDTO;
 import com.loiane.course.enums.Category;
 import com.loiane.course.enums.Status;
 
@@ -63,26 +69,119 @@ class CourseRepositoryTest {
     }
 
     /**
-     * Method under test: {@link CourseRepository#findByNameIgnoringRestriction(String)}
+     * Method under test: {@link CourseRepository#findExistingNames(java.util.Collection)}
      */
     @Test
-    @DisplayName("Should find a course by exact name")
-    void testFindByName() {
-        Course course = createValidCourse();
+    @DisplayName("Should find the names already used, including by soft-deleted courses")
+    void testFindExistingNames() {
+        Course active = createValidCourse();
+        entityManager.persist(active);
+        Course deleted = createValidCourse();
+        deleted.setName("Deleted Course");
+        entityManager.persist(deleted);
+        courseRepository.delete(deleted);
         // flush so the native query, which bypasses the persistence context,
-        // can see the new row
-        entityManager.persistAndFlush(course);
+        // can see the rows
+        entityManager.flush();
 
-        List<Course> courseFound = courseRepository.findByNameIgnoringRestriction(course.getName());
+        assertThat(courseRepository.findExistingNames(List.of(active.getName(), "Deleted Course", "New Course")))
+                .containsExactlyInAnyOrder(active.getName(), "Deleted Course");
+    }
 
-        assertThat(courseFound).isNotEmpty();
-        assertThat(courseFound.get(0).getStatus()).isEqualTo(Status.ACTIVE);
-        assertThat(courseFound.get(0).getLessons()).isNotEmpty();
+    /**
+     * Method under test:
+     * {@link CourseRepository#findByIdGreaterThanOrderByIdAsc(Long, Limit)}
+     */
+    @Test
+    @DisplayName("Should seek past the given id in id order")
+    void testFindByIdGreaterThan() {
+        Course first = entityManager.persist(createValidCourse("Spring"));
+        Course second = entityManager.persist(createValidCourse("Angular"));
+        Course third = entityManager.persist(createValidCourse("Java Basics"));
+
+        List<Course> page = courseRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(10));
+
+        assertThat(page).extracting(Course::getId).containsExactly(second.getId(), third.getId());
+        assertThat(courseRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1)))
+                .extracting(Course::getId).containsExactly(first.getId());
+    }
+
+    /**
+     * Method under test: {@link CourseRepository#findSummaries(org.springframework.data.domain.Pageable)}
+     */
+    @Test
+    @DisplayName("Should project course summaries with their lesson count")
+    void testFindSummaries() {
+        Course course = createValidCourse("Spring");
+        Lesson second = new Lesson();
+        second.setName("Lesson 2");
+        second.setYoutubeUrl("abcdefgh456");
+        course.addLesson(second);
+        entityManager.persist(course);
+        Course deleted = createValidCourse("Angular");
+        deleted.setStatus(Status.INACTIVE);
+        entityManager.persistAndFlush(deleted);
+        entityManager.clear();
+
+        Page<CourseSummaryDTO> page = courseRepository.findSummaries(PageRequest.of(0, 10));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).containsExactly(
+                new CourseSummaryDTO(course.getId(), "Spring", Category.BACK_END.getValue(), 2));
+    }
+
+    /**
+     * Method under test: {@link CourseRepository#findVersions(org.springframework.data.domain.Pageable)}
+     */
+    @Test
+    @DisplayName("Should list course ids and versions, excluding deleted courses")
+    void testFindVersions() {
+        Course first = createValidCourse("Spring");
+        entityManager.persist(first);
+        Course second = createValidCourse("Angular");
+        entityManager.persistAndFlush(second);
+        courseRepository.delete(second);
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<CourseVersionRow> page = courseRepository.findVersions(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent()).containsExactly(new CourseVersionRow(first.getId(), 0L));
+        assertThat(courseRepository.findVersionById(second.getId())).isEmpty();
+    }
+
+    /**
+     * Method under test: {@link CourseRepository#streamExportRows()}
+     */
+    @Test
+    @DisplayName("Should stream one row per lesson, grouped by course, excluding deleted courses")
+    void testStreamExportRows() {
+        Course first = createValidCourse("Spring");
+        Lesson second = new Lesson();
+        second.setName("Lesson 2");
+        second.setYoutubeUrl("abcdefgh456");
+        first.addLesson(second);
+        entityManager.persist(first);
+        Course deleted = createValidCourse("Angular");
+        deleted.setStatus(Status.INACTIVE);
+        entityManager.persistAndFlush(deleted);
+        entityManager.clear();
+
+        try (Stream<CourseExportRow> rows = courseRepository.streamExportRows()) {
+            assertThat(rows.toList())
+                    .extracting(CourseExportRow::courseId, CourseExportRow::lessonName)
+                    .containsExactly(tuple(first.getId(), "Lesson 1"), tuple(first.getId(), "Lesson 2"));
+        }
     }
 
     private Course createValidCourse() {
+        return createValidCourse("Spring");
+    }
+
+    private Course createValidCourse(String name) {
         Course course = new Course();
-        course.setName("Spring");
+        course.setName(name);
         course.setCategory(Category.BACK_END);
 
         Lesson lesson = new Lesson();
@@ -0,0 +1,133 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.Category;
+import com.loiane.shared.metrics.QueryCounter;
+import com.loiane.shared.metrics.QueryCounter.Counted;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Hibernate second-level cache of courses, their lessons collection and
+ * lessons, against the real cache regions and database.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class CourseSecondLevelCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        queryCounter = new QueryCounter(entityManagerFactory);
+    }
+
+    @Test
+    @DisplayName("Should load a course and its lessons from the cache once they have been read")
+    void testCourseAndLessonsCached() {
+        CourseDTO created = courseService.create(request("Second Level Cached", "Lesson one", "Lesson two"));
+        cache.evictAll();
+
+        Counted<List<String>> first = queryCounter.count(() -> lessonNames(created.id()));
+        assertThat(first.queries().statements()).isPositive();
+        assertThat(cache.contains(Course.class, created.id())).isTrue();
+
+        Counted<List<String>> second = queryCounter.count(() -> lessonNames(created.id()));
+        assertThat(second.queries().statements()).isZero();
+        assertThat(second.result()).isEqualTo(first.result()).containsExactly("Lesson one", "Lesson two");
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", "course", "result", "hit").functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("hibernate.second.level.cache.hit.ratio")
+                .tag("region", "course-lessons").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should read the new lessons after an update, not the cached ones")
+    void testLessonsEvictedOnUpdate() {
+        CourseDTO created = courseService.create(request("Cached Then Updated", "Lesson one"));
+        assertThat(lessonNames(created.id())).containsExactly("Lesson one");
+
+        courseService.update(created.id(), request("Cached Then Updated", "Lesson one", "Lesson two"));
+
+        assertThat(lessonNames(created.id())).containsExactly("Lesson one", "Lesson two");
+    }
+
+    @Test
+    @DisplayName("Should read the lessons added or removed through the lesson sub-resource, not the cached ones")
+    void testLessonsEvictedOnLessonChange() {
+        CourseDTO created = courseService.create(request("Cached Lesson Changes", "Lesson one"));
+        assertThat(lessonNames(created.id())).containsExactly("Lesson one");
+
+        LessonDTO added = lessonService.create(created.id(), new LessonDTO(null, "Lesson two", "abcdefgh456"));
+        assertThat(lessonNames(created.id())).containsExactly("Lesson one", "Lesson two");
+
+        lessonService.delete(created.id(), created.lessons().get(0)._id());
+        assertThat(lessonNames(created.id())).containsExactly(added.name());
+    }
+
+    @Test
+    @DisplayName("Should not find a soft-deleted course through the cache")
+    void testSoftDeletedNotCached() {
+        CourseDTO created = courseService.create(request("Cached Then Deleted", "Lesson one"));
+        lessonNames(created.id());
+        assertThat(cache.contains(Course.class, created.id())).isTrue();
+
+        courseService.delete(created.id());
+        assertNotFoundInDatabase(created.id());
+    }
+
+    private void assertNotFoundInDatabase(Long courseId) {
+        Counted<Optional<Course>> found = queryCounter.count(() -> courseRepository.findById(courseId));
+        assertThat(found.result()).isEmpty();
+        assertThat(found.queries().statements()).isPositive();
+    }
+
+    private List<String> lessonNames(Long courseId) {
+        return transactionTemplate.execute(status -> courseRepository.findById(courseId).orElseThrow()
+                .getLessons().stream().map(Lesson::getName).toList());
+    }
+
+    private static CourseRequestDTO request(String name, String... lessons) {
+        return new CourseRequestDTO(name, Category.BACK_END.getValue(), List.of(lessons).stream()
+                .map(lesson -> new LessonDTO(null, lesson, "abcdefgh123")).toList());
+    }
+}
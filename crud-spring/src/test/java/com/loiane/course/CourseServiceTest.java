@@ -1,6 +1,7 @@
 package com.loiane.course;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -8,50 +9,77 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 import com.loiane.config.ValidationAdvice;
+import com.loiane.course.dto.CourseCursorPageDTO;
 import com.loiane.course.dto.CourseDTO;
-import com.loiane.course.dto.CoursePageDTO;
 import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSliceDTO;
+import com.loiane.course.dto.CourseSummaryDTO;
+import com.loiane.course.dto.CourseSummaryPageDTO;
 import com.loiane.course.dto.LessonDTO;
 import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.enums.Category;
+import com.loiane.course.event.CourseDeletedEvent;
+import com.loiane.course.event.CourseSavedEvent;
+import com.loiane.course.search.CourseSearchService;
 import com.loiane.exception.BusinessException;
+import com.loiane.exception.InvalidCursorException;
 import com.loiane.exception.RecordNotFoundException;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 
 @ActiveProfiles("test")
-@SpringJUnitConfig(classes = { CourseService.class, CourseMapper.class })
+@SpringJUnitConfig(classes = { CourseMapper.class, SimpleMeterRegistry.class })
 class CourseServiceTest {
 
     @MockitoBean
     private CourseRepository courseRepository;
 
+    @MockitoBean
+    private CourseSearchService courseSearchService;
+
+    private ApplicationEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+
     @Autowired
     private CourseMapper courseMapper;
 
-    @Autowired
     private CourseService courseService;
 
     @Autowired
@@ -59,74 +87,241 @@ class CourseServiceTest {
 
     @BeforeEach
     void setUp() {
-        ProxyFactory factory = new ProxyFactory(new CourseService(courseRepository, courseMapper));
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ProxyFactory factory = new ProxyFactory(
+                new CourseService(courseRepository, courseMapper, courseSearchService, eventPublisher, meterRegistry));
         factory.addAdvice(new ValidationAdvice(applicationContext));
         courseService = (CourseService) factory.getProxy();
     }
 
     /**
-     * Method under test: {@link CourseService#findAll(int, int)}
+     * Method under test: {@link CourseService#findVersionedPage(int, int)}
+     */
+    @Test
+    @DisplayName("Should return a page of courses tagged from the courses it lists")
+    void testFindVersionedPage() {
+        Course course = TestData.createValidCourse();
+        course.setVersion(2L);
+        List<Course> courseList = List.of(course);
+        Pageable pageable = PageRequest.of(0, 5, Sort.by("id"));
+        when(this.courseRepository.findAll(pageable)).thenReturn(new PageImpl<>(courseList, pageable, 1));
+        when(this.courseRepository.findVersions(pageable)).thenReturn(
+                new PageImpl<>(List.of(new CourseVersionRow(course.getId(), 2L)), pageable, 1));
+
+        VersionedCoursePage versionedPage = this.courseService.findVersionedPage(0, 5);
+        CoursePage coursePage = versionedPage.page();
+        assertEquals(courseList, coursePage.courses());
+        assertEquals(1, coursePage.totalElements());
+        assertEquals(1, coursePage.totalPages());
+        assertThat(coursePage.courses().get(0).getLessons()).isNotEmpty();
+        assertThat(versionedPage.versionTag()).isEqualTo(this.courseService.findVersionTag(0, 5));
+        verify(this.courseRepository).findAll(pageable);
+    }
+
+    /**
+     * Method under test: {@link CourseService#findSlice(int, int)}
      */
     @Test
-    @DisplayName("Should return a list of courses with pagination")
-    void testFindAllPageable() {
+    @DisplayName("Should return a page without totals and without a count query")
+    void testFindSlice() {
         List<Course> courseList = List.of(TestData.createValidCourse());
-        Page<Course> coursePage = new PageImpl<>(courseList);
-        when(this.courseRepository.findAll(any(PageRequest.class))).thenReturn(coursePage);
-        List<CourseDTO> dtoList = new ArrayList<>(courseList.size());
-        for (Course course : courseList) {
-            dtoList.add(courseMapper.toDTO(course));
-        }
+        when(this.courseRepository.findAllBy(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(courseList, PageRequest.of(0, 1), true));
+
+        CourseSliceDTO slice = this.courseService.findSlice(0, 1);
+
+        assertEquals(List.of(courseMapper.toDTO(courseList.get(0))), slice.courses());
+        assertThat(slice.hasNext()).isTrue();
+        verify(this.courseRepository).findAllBy(PageRequest.of(0, 1, Sort.by("id")));
+        verify(this.courseRepository, times(0)).findAll(any(Pageable.class));
+        verify(this.courseRepository, times(0)).count();
+    }
+
+    /**
+     * Method under test: {@link CourseService#findSlice(int, int)}
+     */
+    @Test
+    @DisplayName("Should throw exception when page parameters are not valid - findSlice")
+    void testFindSliceInvalid() {
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findSlice(-1, 10));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findSlice(0, 0));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findSlice(0, 1001));
+    }
+
+    /**
+     * Method under test: {@link CourseService#findSummaries(int, int)}
+     */
+    @Test
+    @DisplayName("Should return course summaries with pagination")
+    void testFindSummaries() {
+        CourseSummaryDTO summary = new CourseSummaryDTO(1L, "Spring", "Back-end", 3);
+        when(this.courseRepository.findSummaries(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(summary)));
+
+        CourseSummaryPageDTO page = this.courseService.findSummaries(0, 5);
+
+        assertEquals(List.of(summary), page.courses());
+        assertEquals(1, page.totalElements());
+        assertEquals(1, page.totalPages());
+        verify(this.courseRepository).findSummaries(PageRequest.of(0, 5));
+        verify(this.courseRepository, times(0)).findAll(any(Pageable.class));
+    }
 
-        CoursePageDTO coursePageDTO = this.courseService.findAll(0, 5);
-        assertEquals(dtoList, coursePageDTO.courses());
-        assertThat(coursePageDTO.courses()).isNotEmpty();
-        assertEquals(1, coursePageDTO.totalElements());
-        assertThat(coursePageDTO.courses().get(0).lessons()).isNotEmpty();
-        verify(this.courseRepository).findAll(any(PageRequest.class));
+    /**
+     * Method under test: {@link CourseService#findAllAfter(String, int)}
+     */
+    @Test
+    @DisplayName("Should return a keyset page with a cursor to the next page")
+    void testFindAllAfter() {
+        Course first = TestData.createValidCourse();
+        Course second = TestData.createValidCourse();
+        second.setId(2L);
+        Course third = TestData.createValidCourse();
+        third.setId(3L);
+        when(this.courseRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(first, second, third));
+
+        CourseCursorPageDTO page = this.courseService.findAllAfter("", 2);
+
+        assertThat(page.courses()).extracting(CourseDTO::id).containsExactly(1L, 2L);
+        assertThat(page.nextCursor()).isNotBlank();
+        // the first page seeks from the start and fetches one extra row
+        verify(this.courseRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3));
+
+        when(this.courseRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(third));
+        CourseCursorPageDTO lastPage = this.courseService.findAllAfter(page.nextCursor(), 2);
+
+        assertThat(lastPage.courses()).extracting(CourseDTO::id).containsExactly(3L);
+        assertThat(lastPage.nextCursor()).isNull();
+        verify(this.courseRepository).findByIdGreaterThanOrderByIdAsc(2L, Limit.of(3));
+    }
+
+    /**
+     * Method under test: {@link CourseService#findAllAfter(String, int)}
+     */
+    @Test
+    @DisplayName("Should reject a cursor that was not issued by the API")
+    void testFindAllAfterInvalidCursor() {
+        assertThrows(InvalidCursorException.class, () -> this.courseService.findAllAfter("not-a-cursor", 10));
+        assertThrows(InvalidCursorException.class, () -> this.courseService.findAllAfter("%%%", 10));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findAllAfter("", 0));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findAllAfter(null, 10));
+        verify(this.courseRepository, times(0)).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
     }
 
     /**
-     * Method under test: {@link CourseService#findById(Long)}
+     * Method under test: {@link CourseService#findVersionedById(Long)}
      * Happy path
      */
     @Test
-    @DisplayName("Should return a course by id")
+    @DisplayName("Should return a course by id with its version")
     void testFindById() {
         Course course = TestData.createValidCourse();
+        course.setVersion(3L);
         Optional<Course> ofResult = Optional.of(course);
         when(this.courseRepository.findById(anyLong())).thenReturn(ofResult);
-        CourseDTO actualFindByIdResult = this.courseService.findById(1L);
-        assertEquals(courseMapper.toDTO(ofResult.get()), actualFindByIdResult);
+        VersionedCourse actualFindByIdResult = this.courseService.findVersionedById(1L);
+        assertEquals(courseMapper.toDTO(ofResult.get()), actualFindByIdResult.course());
+        assertEquals(3L, actualFindByIdResult.version());
         verify(this.courseRepository).findById(anyLong());
     }
 
     /**
-     * Method under test: {@link CourseService#findById(Long)}
+     * Method under test: {@link CourseService#findVersionedById(Long)}
      */
     @Test
     @DisplayName("Should throw NotFound exception when course not found")
     void testFindByIdNotFound() {
         when(this.courseRepository.findById(anyLong())).thenReturn(Optional.empty());
-        assertThrows(RecordNotFoundException.class, () -> this.courseService.findById(123L));
+        assertThrows(RecordNotFoundException.class, () -> this.courseService.findVersionedById(123L));
         verify(this.courseRepository).findById(anyLong());
     }
 
     /**
-     * Method under test: {@link CourseService#findById(Long)}
+     * Method under test: {@link CourseService#findVersionedById(Long)}
      */
     @Test
     @DisplayName("Should throw exception when id is not valid - findById")
     void testFindByIdInvalid() {
-        assertThrows(ConstraintViolationException.class, () -> this.courseService.findById(-1L));
-        assertThrows(ConstraintViolationException.class, () -> this.courseService.findById(null));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findVersionedById(-1L));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findVersionedById(null));
+    }
+
+    /**
+     * Method under test: {@link CourseService#findVersion(Long)}
+     */
+    @Test
+    @DisplayName("Should return the version of a course without loading it")
+    void testFindVersion() {
+        when(this.courseRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+        assertEquals(2L, this.courseService.findVersion(1L));
+        verify(this.courseRepository, times(0)).findById(anyLong());
+
+        when(this.courseRepository.findVersionById(123L)).thenReturn(Optional.empty());
+        assertThrows(RecordNotFoundException.class, () -> this.courseService.findVersion(123L));
+        assertThrows(ConstraintViolationException.class, () -> this.courseService.findVersion(-1L));
+    }
+
+    /**
+     * Method under test: {@link CourseService#findVersionTag(int, int)}
+     */
+    @Test
+    @DisplayName("Should fingerprint a page from course ids and versions")
+    void testFindVersionTag() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("id"));
+        when(this.courseRepository.findVersions(pageable)).thenReturn(
+                new PageImpl<>(List.of(new CourseVersionRow(1L, 0L), new CourseVersionRow(2L, 0L)), pageable, 3));
+        String tag = this.courseService.findVersionTag(0, 2);
+        assertThat(tag).hasSize(64).isEqualTo(this.courseService.findVersionTag(0, 2));
+
+        when(this.courseRepository.findVersions(pageable)).thenReturn(
+                new PageImpl<>(List.of(new CourseVersionRow(1L, 0L), new CourseVersionRow(2L, 1L)), pageable, 3));
+        assertThat(this.courseService.findVersionTag(0, 2)).isNotEqualTo(tag);
+        verify(this.courseRepository, times(0)).findAll(any(Pageable.class));
+    }
+
+    /**
+     * Method under test: {@link CourseService#exportAll(java.util.function.Consumer)}
+     */
+    @Test
+    @DisplayName("Should group streamed export rows into one course per consumer call")
+    void testExportAll() {
+        when(this.courseRepository.streamExportRows()).thenReturn(Stream.of(
+                new CourseExportRow(1L, "Angular", Category.FRONT_END, 1L, "Components", "abcdefgh123"),
+                new CourseExportRow(1L, "Angular", Category.FRONT_END, 2L, "Services", "abcdefgh456"),
+                new CourseExportRow(2L, "Empty course", Category.BACK_END, null, null, null),
+                new CourseExportRow(3L, "Spring", Category.BACK_END, 3L, "Introduction", "abcdefgh789")));
+        List<CourseDTO> exported = new ArrayList<>();
+
+        this.courseService.exportAll(exported::add);
+
+        assertEquals(List.of(
+                new CourseDTO(1L, "Angular", "Front-end", List.of(
+                        new LessonDTO(1L, "Components", "abcdefgh123"),
+                        new LessonDTO(2L, "Services", "abcdefgh456"))),
+                new CourseDTO(2L, "Empty course", "Back-end", List.of()),
+                new CourseDTO(3L, "Spring", "Back-end", List.of(new LessonDTO(3L, "Introduction", "abcdefgh789")))),
+                exported);
+    }
+
+    /**
+     * Method under test: {@link CourseService#exportAll(java.util.function.Consumer)}
+     */
+    @Test
+    @DisplayName("Should not call the consumer when there is nothing to export")
+    void testExportAllEmpty() {
+        when(this.courseRepository.streamExportRows()).thenReturn(Stream.empty());
+        List<CourseDTO> exported = new ArrayList<>();
+        this.courseService.exportAll(exported::add);
+        assertThat(exported).isEmpty();
     }
 
     /**
      * Method under test: {@link CourseService#findByName(String)}
      */
     @Test
-    @DisplayName("Should return a course by name")
+    @DisplayName("Should return a course by name while the search index is not ready")
     void testFindByName() {
         Course course = TestData.createValidCourse();
         when(this.courseRepository.findByNameContainingIgnoreCase(anyString(), any(Limit.class)))
@@ -137,6 +332,26 @@ class CourseServiceTest {
         verify(this.courseRepository).findByNameContainingIgnoreCase(anyString(), any(Limit.class));
     }
 
+    /**
+     * Method under test: {@link CourseService#findByName(String)}
+     */
+    @Test
+    @DisplayName("Should return courses in search index order, skipping deleted ones")
+    void testFindByNameFromIndex() {
+        Course first = TestData.createValidCourse();
+        first.setId(2L);
+        Course second = TestData.createValidCourse();
+        second.setId(1L);
+        when(this.courseSearchService.isReady()).thenReturn(true);
+        when(this.courseSearchService.search("Sprng", 50)).thenReturn(List.of(2L, 3L, 1L));
+        when(this.courseRepository.findAllById(List.of(2L, 3L, 1L))).thenReturn(List.of(second, first));
+
+        List<CourseDTO> listByName = this.courseService.findByName("Sprng");
+
+        assertEquals(List.of(courseMapper.toDTO(first), courseMapper.toDTO(second)), listByName);
+        verify(this.courseRepository, times(0)).findByNameContainingIgnoreCase(anyString(), any(Limit.class));
+    }
+
     /**
      * Method under test: {@link CourseService#create(CourseRequestDTO)}
      */
@@ -149,6 +364,7 @@ class CourseServiceTest {
 
         assertEquals(courseMapper.toDTO(course), this.courseService.create(courseDTO));
         verify(this.courseRepository).save(any());
+        verify(this.eventPublisher).publishEvent(new CourseSavedEvent(courseMapper.toDTO(course)));
     }
 
     /**
@@ -170,12 +386,28 @@ class CourseServiceTest {
     @DisplayName("Should throw an exception when creating a duplicate course")
     void testCreateSameName() {
         CourseRequestDTO courseRequestDTO = TestData.createValidCourseRequest();
-        when(this.courseRepository.findByNameIgnoringRestriction(any()))
-                .thenReturn(List.of(TestData.createValidCourse()));
+        when(this.courseRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(constraintViolation(ConstraintKind.UNIQUE)).when(this.courseRepository).flush();
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> this.courseService.create(courseRequestDTO));
+        assertEquals("A course with name '" + courseRequestDTO.name() + "' already exists", exception.getMessage());
+        verify(this.eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * Method under test: {@link CourseService#create(CourseRequestDTO)}
+     */
+    @Test
+    @DisplayName("Should not report other integrity violations as a duplicate name")
+    void testCreateOtherIntegrityViolation() {
+        when(this.courseRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        DataIntegrityViolationException violation = constraintViolation(ConstraintKind.NOT_NULL);
+        doThrow(violation).when(this.courseRepository).flush();
 
-        assertThrows(BusinessException.class, () -> this.courseService.create(courseRequestDTO));
-        verify(this.courseRepository).findByNameIgnoringRestriction(any());
-        verify(this.courseRepository, times(0)).save(any());
+        CourseRequestDTO courseRequestDTO = TestData.createValidCourseRequest();
+        assertEquals(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> this.courseService.create(courseRequestDTO)));
     }
 
     /**
@@ -189,14 +421,31 @@ class CourseServiceTest {
 
         Course course1 = TestData.createValidCourse();
         when(this.courseRepository.save(any())).thenReturn(course1);
-        when(this.courseRepository.findById(anyLong())).thenReturn(ofResult);
-        // the course being updated keeps its own name: not a duplicate
-        when(this.courseRepository.findByNameIgnoringRestriction(anyString())).thenReturn(List.of(course));
+        when(this.courseRepository.findForUpdateById(anyLong())).thenReturn(ofResult);
 
         CourseRequestDTO course2 = TestData.createValidCourseRequest();
         assertEquals(courseMapper.toDTO(course1), this.courseService.update(1L, course2));
         verify(this.courseRepository).save(any());
-        verify(this.courseRepository).findById(anyLong());
+        verify(this.courseRepository).flush();
+        verify(this.courseRepository).findForUpdateById(anyLong());
+    }
+
+    /**
+     * Method under test: {@link CourseService#update(Long, CourseRequestDTO)}
+     */
+    @Test
+    @DisplayName("Should time each phase of an update")
+    void testUpdatePhaseTimers() {
+        Course course = TestData.createValidCourse();
+        when(this.courseRepository.findForUpdateById(anyLong())).thenReturn(Optional.of(course));
+        when(this.courseRepository.save(any())).thenReturn(course);
+
+        this.courseService.update(1L, TestData.createValidCourseRequest());
+
+        assertThat(meterRegistry.find(CourseService.PHASE_TIMER).tag("method", "update").timers())
+                .extracting(timer -> timer.getId().getTag("phase"), Timer::count)
+                .containsExactlyInAnyOrder(tuple("merge", 1L), tuple("save", 1L), tuple("flush", 1L),
+                        tuple("mapping", 1L));
     }
 
     /**
@@ -206,15 +455,23 @@ class CourseServiceTest {
     @DisplayName("Should throw an exception when updating to a name used by another course")
     void testUpdateDuplicateName() {
         Course course = TestData.createValidCourse();
-        when(this.courseRepository.findById(anyLong())).thenReturn(Optional.of(course));
+        when(this.courseRepository.findForUpdateById(anyLong())).thenReturn(Optional.of(course));
 
-        Course otherCourse = TestData.createValidCourse();
-        otherCourse.setId(2L);
-        when(this.courseRepository.findByNameIgnoringRestriction(anyString())).thenReturn(List.of(otherCourse));
+        when(this.courseRepository.save(any())).thenReturn(course);
+        doThrow(constraintViolation(ConstraintKind.UNIQUE)).when(this.courseRepository).flush();
 
         CourseRequestDTO courseRequestDTO = TestData.createValidCourseRequest();
         assertThrows(BusinessException.class, () -> this.courseService.update(1L, courseRequestDTO));
-        verify(this.courseRepository, times(0)).save(any());
+        verify(this.eventPublisher, never()).publishEvent(any());
+    }
+
+    /**
+     * The exception Spring translates a constraint violation on flush into.
+     */
+    private static DataIntegrityViolationException constraintViolation(ConstraintKind kind) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new org.hibernate.exception.ConstraintViolationException("could not execute statement",
+                        new SQLException("constraint violation"), "insert into course", kind, "constraint"));
     }
 
     /**
@@ -234,7 +491,7 @@ class CourseServiceTest {
         removedLesson.setYoutubeUrl("abcdefgh456");
         course.setLessons(Set.of(keptLesson, removedLesson));
 
-        when(this.courseRepository.findById(anyLong())).thenReturn(Optional.of(course));
+        when(this.courseRepository.findForUpdateById(anyLong())).thenReturn(Optional.of(course));
         when(this.courseRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         CourseRequestDTO request = new CourseRequestDTO(course.getName(), course.getCategory().getValue(),
@@ -260,12 +517,12 @@ class CourseServiceTest {
         Course course = TestData.createValidCourse();
         Optional<Course> ofResult = Optional.of(course);
         when(this.courseRepository.save(any())).thenThrow(new RecordNotFoundException(123L));
-        when(this.courseRepository.findById(anyLong())).thenReturn(ofResult);
+        when(this.courseRepository.findForUpdateById(anyLong())).thenReturn(ofResult);
 
         CourseRequestDTO course1 = TestData.createValidCourseRequest();
         assertThrows(RecordNotFoundException.class, () -> this.courseService.update(123L, course1));
         verify(this.courseRepository).save(any());
-        verify(this.courseRepository).findById(anyLong());
+        verify(this.courseRepository).findForUpdateById(anyLong());
     }
 
     /**
@@ -307,6 +564,7 @@ class CourseServiceTest {
         this.courseService.delete(1L);
         verify(this.courseRepository).findById(anyLong());
         verify(this.courseRepository).delete(any());
+        verify(this.eventPublisher).publishEvent(new CourseDeletedEvent(1L));
     }
 
     /**
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
@@ -61,7 +64,151 @@ class CourseTest {
         second.setName("Second lesson");
         course.setLessons(Set.of(second));
 
-        assertEquals(Set.of(second), course.getLessons());
+        assertEquals(List.of(second), course.getLessons());
         assertFalse(course.getLessons().contains(first));
     }
+
+    /**
+     * Method under test: {@link Course#removeLessons(java.util.Collection)}
+     */
+    @Test
+    @DisplayName("Should remove several lessons at once, keeping the order of the others")
+    void testRemoveLessons() {
+        Course course = new Course();
+        List<Lesson> lessons = List.of(createLesson(), createLesson(), createLesson(), createLesson());
+        course.setLessons(lessons);
+
+        course.removeLessons(List.of(lessons.get(2), lessons.get(0)));
+
+        assertEquals(List.of(lessons.get(1), lessons.get(3)), course.getLessons());
+        assertNull(lessons.get(0).getCourse());
+        assertEquals(course, lessons.get(1).getCourse());
+    }
+
+    @Test
+    @DisplayName("Should not let the lessons be changed through the getter")
+    void testGetLessonsReadOnly() {
+        Course course = new Course();
+        course.setLessons(List.of(createLesson()));
+        List<Lesson> lessons = course.getLessons();
+        assertThrows(UnsupportedOperationException.class, () -> lessons.add(createLesson()));
+    }
+
+    /**
+     * Method under test: {@link Course#findLesson(Long)}
+     */
+    @Test
+    @DisplayName("Should find lessons by id, including ones added or persisted after the first lookup")
+    void testFindLesson() {
+        Course course = new Course();
+        Lesson first = createLesson();
+        first.setId(1L);
+        course.setLessons(List.of(first));
+        assertEquals(first, course.findLesson(1L).orElseThrow());
+        assertTrue(course.findLesson(2L).isEmpty());
+
+        Lesson persisted = createLesson();
+        persisted.setId(2L);
+        course.addLesson(persisted);
+        Lesson unsaved = createLesson();
+        course.addLesson(unsaved);
+        unsaved.setId(3L); // assigned on persist
+        assertEquals(persisted, course.findLesson(2L).orElseThrow());
+        assertEquals(unsaved, course.findLesson(3L).orElseThrow());
+
+        course.removeLesson(persisted);
+        assertTrue(course.findLesson(2L).isEmpty());
+        assertEquals(List.of(first, unsaved), course.getLessons());
+    }
+
+    /**
+     * Adds n persisted lessons, looks each one up by id and removes half of
+     * them. With lessons in a hash set (all lessons share one hash code) each
+     * of these operations scanned the whole collection, so the cost per
+     * lesson grew with the course size; now it must stay flat.
+     */
+    @Test
+    @DisplayName("Should keep a flat cost per lesson operation from 10 to 10,000 lessons")
+    void testLessonOperationsScale() {
+        int[] sizes = { 10, 100, 1_000, 10_000 };
+        double[] nanosPerLesson = new double[sizes.length];
+        for (int round = 0; round < 5; round++) { // the first rounds warm up the JIT
+            for (int i = 0; i < sizes.length; i++) {
+                double cost = nanosPerLesson(sizes[i]);
+                nanosPerLesson[i] = round == 0 ? cost : Math.min(nanosPerLesson[i], cost);
+            }
+        }
+        // quadratic behavior would make the 10,000-lesson cost ~100x the 100-lesson one
+        double largest = nanosPerLesson[sizes.length - 1];
+        assertTrue(largest < 5 * Math.max(nanosPerLesson[1], nanosPerLesson[2]),
+                () -> "ns per lesson for " + Arrays.toString(sizes) + ": "
+                        + Arrays.toString(nanosPerLesson));
+    }
+
+    private double nanosPerLesson(int lessonCount) {
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        for (long id = 1; id <= lessonCount; id++) {
+            Lesson lesson = createLesson();
+            lesson.setId(id);
+            lessons.add(lesson);
+        }
+        long start = System.nanoTime();
+        Course course = new Course();
+        lessons.forEach(course::addLesson);
+        for (long id = 1; id <= lessonCount; id++) {
+            course.findLesson(id).orElseThrow();
+        }
+        course.removeLessons(lessons.subList(0, lessonCount / 2));
+        long elapsed = System.nanoTime() - start;
+        assertEquals(lessonCount - lessonCount / 2, course.getLessons().size());
+        return (double) elapsed / lessonCount;
+    }
+
+    /**
+     * Adds 1,000 persisted lessons, looks each one up and removes half of them.
+     * In a hash set, where all lessons share one hash code, every operation
+     * compared the lesson with the whole bucket; the list, the id index and
+     * the identity set of {@link Course#removeLessons(java.util.Collection)}
+     * never call {@code equals} or {@code hashCode}.
+     */
+    @Test
+    @DisplayName("Should add, find and remove lessons without comparing or hashing them")
+    void testLessonOperationsDoNotCompareLessons() {
+        List<CountingLesson> lessons = new ArrayList<>();
+        for (long id = 1; id <= 1_000; id++) {
+            CountingLesson lesson = new CountingLesson();
+            lesson.setId(id);
+            lessons.add(lesson);
+        }
+        Course course = new Course();
+
+        lessons.forEach(course::addLesson);
+        lessons.forEach(lesson -> course.findLesson(lesson.getId()).orElseThrow());
+        course.removeLessons(List.copyOf(lessons.subList(0, 500)));
+        course.removeLesson(lessons.get(500));
+
+        assertEquals(499, course.getLessons().size());
+        assertEquals(0, lessons.stream().mapToInt(lesson -> lesson.comparisons).sum());
+    }
+
+    /**
+     * Counts the calls to {@link Lesson#equals(Object)} and
+     * {@link Lesson#hashCode()} made on it.
+     */
+    private static class CountingLesson extends Lesson {
+
+        private int comparisons;
+
+        @Override
+        public boolean equals(Object obj) {
+            comparisons++;
+            return super.equals(obj);
+        }
+
+        @Override
+        public int hashCode() {
+            comparisons++;
+            return super.hashCode();
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package com.loiane.course;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.LessonPageDTO;
+import com.loiane.course.dto.LessonPatchDTO;
+
+class LessonControllerTest {
+
+    private LessonService lessonService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        lessonService = mock(LessonService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LessonController(lessonService)).build();
+    }
+
+    /**
+     * Method under test: {@link LessonController#findAll(Long, int, int)}
+     */
+    @Test
+    @DisplayName("Should return a page of lessons")
+    void testFindAll() throws Exception {
+        when(lessonService.findAll(1L, 0, 10)).thenReturn(
+                new LessonPageDTO(List.of(new LessonDTO(10L, "Introduction", "abcdefgh123")), 1, 1));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/1/lessons"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("lessons", hasSize(1)))
+                .andExpect(jsonPath("lessons[0]._id", is(10)))
+                .andExpect(jsonPath("totalElements", is(1)));
+    }
+
+    /**
+     * Method under test: {@link LessonController#findById(Long, Long)}
+     */
+    @Test
+    @DisplayName("Should return a single lesson")
+    void testFindById() throws Exception {
+        when(lessonService.findById(1L, 10L)).thenReturn(new LessonDTO(10L, "Introduction", "abcdefgh123"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/courses/1/lessons/10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name", is("Introduction")));
+    }
+
+    /**
+     * Method under test: {@link LessonController#create(Long, LessonDTO)}
+     */
+    @Test
+    @DisplayName("Should add a lesson and return 201")
+    void testCreate() throws Exception {
+        when(lessonService.create(any(), any())).thenReturn(new LessonDTO(20L, "Controllers", "abcdefgh456"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/courses/1/lessons")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Controllers\",\"youtubeUrl\":\"abcdefgh456\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("_id", is(20)));
+        verify(lessonService).create(1L, new LessonDTO(null, "Controllers", "abcdefgh456"));
+    }
+
+    /**
+     * Method under test: {@link LessonController#update(Long, Long, LessonPatchDTO)}
+     */
+    @Test
+    @DisplayName("Should patch a lesson")
+    void testUpdate() throws Exception {
+        when(lessonService.update(1L, 10L, new LessonPatchDTO("Getting Started", null)))
+                .thenReturn(new LessonDTO(10L, "Getting Started", "abcdefgh123"));
+
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/courses/1/lessons/10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Getting Started\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("name", is("Getting Started")));
+    }
+
+    /**
+     * Method under test: {@link LessonController#update(Long, Long, LessonPatchDTO)}
+     */
+    @Test
+    @DisplayName("Should reject an invalid patch")
+    void testUpdateInvalid() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.patch("/api/courses/1/lessons/10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"     \",\"youtubeUrl\":\"not a video\"}"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(lessonService);
+    }
+
+    /**
+     * Method under test: {@link LessonController#delete(Long, Long)}
+     */
+    @Test
+    @DisplayName("Should delete a lesson and return 204")
+    void testDelete() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/courses/1/lessons/10"))
+                .andExpect(status().isNoContent());
+        verify(lessonService).delete(1L, 10L);
+    }
+}
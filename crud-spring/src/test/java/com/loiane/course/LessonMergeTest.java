@@ -0,0 +1,99 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+
+class LessonMergeTest {
+
+    private final CourseMapper courseMapper = new CourseMapper();
+
+    /**
+     * Method under test: {@link LessonMerge#of(Course, List)}
+     */
+    @Test
+    @DisplayName("Should compute inserted, updated, removed and unchanged lessons")
+    void testOf() {
+        Lesson unchanged = lesson(1L, "Introduction", "abcdefgh001");
+        Lesson renamed = lesson(2L, "Controllers", "abcdefgh002");
+        Lesson removed = lesson(3L, "Old Lesson", "abcdefgh003");
+
+        Course course = new Course();
+        course.setLessons(List.of(unchanged, renamed, removed));
+
+        LessonMerge merge = LessonMerge.of(course, List.of(
+                new LessonDTO(1L, "Introduction", "abcdefgh001"),
+                new LessonDTO(2L, "REST Controllers", "abcdefgh002"),
+                new LessonDTO(null, "New Lesson", "abcdefgh004"),
+                new LessonDTO(0L, "Another New Lesson", "abcdefgh005"),
+                new LessonDTO(99L, "Lesson of Another Course", "abcdefgh006")));
+
+        assertThat(merge.unchangedCount()).isEqualTo(1);
+        assertThat(merge.updatedCount()).isEqualTo(1);
+        assertThat(merge.insertedCount()).isEqualTo(3);
+        assertThat(merge.removedCount()).isEqualTo(1);
+    }
+
+    /**
+     * Method under test: {@link LessonMerge#applyTo(Course, java.util.function.Function)}
+     */
+    @Test
+    @DisplayName("Should apply the difference without touching unchanged lessons")
+    void testApplyTo() {
+        Lesson unchanged = spy(lesson(1L, "Introduction", "abcdefgh001"));
+        Lesson renamed = lesson(2L, "Controllers", "abcdefgh002");
+        Lesson removed = lesson(3L, "Old Lesson", "abcdefgh003");
+        Course course = new Course();
+        course.setLessons(Set.of(unchanged, renamed, removed));
+
+        LessonMerge.of(course, List.of(
+                new LessonDTO(1L, "Introduction", "abcdefgh001"),
+                new LessonDTO(2L, "REST Controllers", "abcdefgh002"),
+                new LessonDTO(null, "New Lesson", "abcdefgh004")))
+                .applyTo(course, courseMapper::convertLessonDTOToLesson);
+
+        assertThat(course.getLessons()).extracting(Lesson::getName)
+                .containsExactlyInAnyOrder("Introduction", "REST Controllers", "New Lesson");
+        assertThat(course.getLessons()).allMatch(lesson -> lesson.getCourse() == course);
+        assertThat(removed.getCourse()).isNull();
+        verify(unchanged, never()).setName(anyString());
+        verify(unchanged, never()).setYoutubeUrl(anyString());
+    }
+
+    @Test
+    @DisplayName("Should remove every lesson that is not requested")
+    void testOfNoRequestedIds() {
+        List<Lesson> lessons = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            lessons.add(lesson(id, "Lesson " + id, "abcdefgh001"));
+        }
+        Course course = new Course();
+        course.setLessons(lessons);
+
+        LessonMerge merge = LessonMerge.of(course, List.of(new LessonDTO(null, "Only Lesson", "abcdefgh001")));
+
+        assertThat(merge.removedCount()).isEqualTo(1000);
+        assertThat(merge.insertedCount()).isEqualTo(1);
+        assertThat(merge.updatedCount()).isZero();
+    }
+
+    private static Lesson lesson(Long id, String name, String youtubeUrl) {
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName(name);
+        lesson.setYoutubeUrl(youtubeUrl);
+        return lesson;
+    }
+}
@@ -0,0 +1,162 @@
+package com.loiane.course;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.dto.LessonPageDTO;
+import com.loiane.course.dto.LessonPatchDTO;
+import com.loiane.course.dto.mapper.CourseMapper;
+import com.loiane.course.event.LessonDeletedEvent;
+import com.loiane.course.event.LessonSavedEvent;
+import com.loiane.exception.BusinessException;
+import com.loiane.exception.RecordNotFoundException;
+
+class LessonServiceTest {
+
+    private CourseRepository courseRepository;
+    private LessonRepository lessonRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private LessonService lessonService;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        lessonRepository = mock(LessonRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        lessonService = new LessonService(courseRepository, lessonRepository, new CourseMapper(), eventPublisher);
+        course = TestData.createValidCourse();
+    }
+
+    /**
+     * Method under test: {@link LessonService#findAll(Long, int, int)}
+     */
+    @Test
+    @DisplayName("Should return a page of the lessons of a course, in id order")
+    void testFindAll() {
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        PageRequest pageRequest = PageRequest.of(0, 2, Sort.by("id"));
+        when(lessonRepository.findByCourseId(1L, pageRequest))
+                .thenReturn(new PageImpl<>(List.of(lesson(10L, "Introduction")), pageRequest, 3));
+
+        LessonPageDTO page = lessonService.findAll(1L, 0, 2);
+
+        assertThat(page.lessons()).containsExactly(new LessonDTO(10L, "Introduction", "abcdefgh123"));
+        assertThat(page.totalElements()).isEqualTo(3);
+        assertThat(page.totalPages()).isEqualTo(2);
+    }
+
+    /**
+     * Method under test: {@link LessonService#findById(Long, Long)}
+     */
+    @Test
+    @DisplayName("Should throw when the course or the lesson of the course does not exist")
+    void testFindByIdNotFound() {
+        assertThrows(RecordNotFoundException.class, () -> lessonService.findById(1L, 10L));
+
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(lessonRepository.findByIdAndCourseId(10L, 1L)).thenReturn(Optional.empty());
+        assertThrows(RecordNotFoundException.class, () -> lessonService.findById(1L, 10L));
+
+        when(lessonRepository.findByIdAndCourseId(10L, 1L)).thenReturn(Optional.of(lesson(10L, "Introduction")));
+        assertThat(lessonService.findById(1L, 10L).name()).isEqualTo("Introduction");
+    }
+
+    /**
+     * Method under test: {@link LessonService#create(Long, LessonDTO)}
+     */
+    @Test
+    @DisplayName("Should add a lesson to a course without loading its other lessons")
+    void testCreate() {
+        when(courseRepository.findForUpdateById(1L)).thenReturn(Optional.of(course));
+        when(lessonRepository.save(any(Lesson.class))).thenAnswer(invocation -> {
+            Lesson lesson = invocation.getArgument(0);
+            lesson.setId(20L);
+            return lesson;
+        });
+
+        LessonDTO created = lessonService.create(1L, new LessonDTO(99L, "Controllers", "abcdefgh456"));
+
+        assertThat(created).isEqualTo(new LessonDTO(20L, "Controllers", "abcdefgh456"));
+        assertThat(course.getLessons()).hasSize(1);
+        verify(eventPublisher).publishEvent(new LessonSavedEvent(1L, created));
+    }
+
+    /**
+     * Method under test: {@link LessonService#update(Long, Long, LessonPatchDTO)}
+     */
+    @Test
+    @DisplayName("Should change only the fields set in the patch")
+    void testUpdate() {
+        Lesson lesson = lesson(10L, "Introduction");
+        when(courseRepository.findForUpdateById(1L)).thenReturn(Optional.of(course));
+        when(lessonRepository.findByIdAndCourseId(10L, 1L)).thenReturn(Optional.of(lesson));
+
+        LessonDTO updated = lessonService.update(1L, 10L, new LessonPatchDTO("Getting Started", null));
+
+        assertThat(updated).isEqualTo(new LessonDTO(10L, "Getting Started", "abcdefgh123"));
+        verify(eventPublisher).publishEvent(new LessonSavedEvent(1L, updated));
+
+        updated = lessonService.update(1L, 10L, new LessonPatchDTO(null, "abcdefgh789"));
+        assertThat(updated).isEqualTo(new LessonDTO(10L, "Getting Started", "abcdefgh789"));
+    }
+
+    /**
+     * Method under test: {@link LessonService#update(Long, Long, LessonPatchDTO)}
+     */
+    @Test
+    @DisplayName("Should throw when updating a lesson of a missing course")
+    void testUpdateCourseNotFound() {
+        when(courseRepository.findForUpdateById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(RecordNotFoundException.class,
+                () -> lessonService.update(1L, 10L, new LessonPatchDTO("Getting Started", null)));
+        verify(lessonRepository, never()).findByIdAndCourseId(any(), any());
+    }
+
+    /**
+     * Method under test: {@link LessonService#delete(Long, Long)}
+     */
+    @Test
+    @DisplayName("Should delete a lesson, but not the last one of a course")
+    void testDelete() {
+        Lesson lesson = lesson(10L, "Introduction");
+        when(courseRepository.findForUpdateById(1L)).thenReturn(Optional.of(course));
+        when(lessonRepository.findByIdAndCourseId(10L, 1L)).thenReturn(Optional.of(lesson));
+        when(lessonRepository.countByCourseId(1L)).thenReturn(2L);
+
+        lessonService.delete(1L, 10L);
+
+        verify(lessonRepository).delete(lesson);
+        verify(eventPublisher).publishEvent(new LessonDeletedEvent(1L, 10L));
+
+        when(lessonRepository.countByCourseId(1L)).thenReturn(1L);
+        assertThrows(BusinessException.class, () -> lessonService.delete(1L, 10L));
+    }
+
+    private Lesson lesson(Long id, String name) {
+        Lesson lesson = new Lesson();
+        lesson.setId(id);
+        lesson.setName(name);
+        lesson.setYoutubeUrl("abcdefgh123");
+        lesson.setCourse(course);
+        return lesson;
+    }
+}
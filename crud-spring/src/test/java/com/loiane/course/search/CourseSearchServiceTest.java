@@ -0,0 +1,140 @@
+package com.loiane.course.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.loiane.course.CourseRepository;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.event.CourseDeletedEvent;
+import com.loiane.course.event.CourseSavedEvent;
+import com.loiane.course.event.LessonDeletedEvent;
+import com.loiane.course.event.LessonSavedEvent;
+
+class CourseSearchServiceTest {
+
+    private CourseRepository courseRepository;
+    private CourseSearchService courseSearchService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository = mock(CourseRepository.class);
+        when(courseRepository.streamSearchRows()).thenReturn(Stream.of(
+                new CourseSearchRow(1L, "Angular", 1L, "Angular Components"),
+                new CourseSearchRow(1L, "Angular", 2L, "Spring Boot backend for Angular"),
+                new CourseSearchRow(2L, "Spring Boot", 3L, "Introduction"),
+                new CourseSearchRow(3L, "Java Fundamentals", null, null)));
+        courseSearchService = new CourseSearchService(courseRepository, "");
+        courseSearchService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        courseSearchService.close();
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#rebuild()}
+     */
+    @Test
+    @DisplayName("Should be ready once the index has been rebuilt")
+    void testRebuild() {
+        CourseSearchService notBuilt = new CourseSearchService(courseRepository, "");
+        assertThat(notBuilt.isReady()).isFalse();
+        assertThat(courseSearchService.isReady()).isTrue();
+        assertThat(courseSearchService.search("java", 10)).containsExactly(3L);
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#search(String, int)}
+     */
+    @Test
+    @DisplayName("Should rank a course name match above a lesson name match")
+    void testSearchRanking() {
+        assertThat(courseSearchService.search("spring boot", 10)).containsExactly(2L, 1L);
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#search(String, int)}
+     */
+    @Test
+    @DisplayName("Should tolerate typos and match prefixes")
+    void testSearchTypoAndPrefix() {
+        assertThat(courseSearchService.search("Angluar", 10)).containsExactly(1L);
+        assertThat(courseSearchService.search("fundam", 10)).containsExactly(3L);
+        assertThat(courseSearchService.search("Pyhton", 10)).isEmpty();
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#search(String, int)}
+     */
+    @Test
+    @DisplayName("Should limit the number of distinct courses returned")
+    void testSearchLimit() {
+        assertThat(courseSearchService.search("spring", 1)).hasSize(1);
+        assertThat(courseSearchService.search("   ", 10)).isEmpty();
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#onCourseSaved(CourseSavedEvent)}
+     */
+    @Test
+    @DisplayName("Should replace the documents of a saved course")
+    void testOnCourseSaved() {
+        courseSearchService.onCourseSaved(new CourseSavedEvent(new CourseDTO(1L, "React", "Front-end",
+                List.of(new LessonDTO(1L, "Hooks", "abcdefgh123")))));
+        courseSearchService.onCourseSaved(new CourseSavedEvent(new CourseDTO(4L, "Kotlin", "Back-end",
+                List.of(new LessonDTO(5L, "Coroutines", "abcdefgh456")))));
+
+        assertThat(courseSearchService.search("angular", 10)).isEmpty();
+        assertThat(courseSearchService.search("hooks", 10)).containsExactly(1L);
+        assertThat(courseSearchService.search("coroutines", 10)).containsExactly(4L);
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#onCourseDeleted(CourseDeletedEvent)}
+     */
+    @Test
+    @DisplayName("Should remove a deleted course from the index")
+    void testOnCourseDeleted() {
+        courseSearchService.onCourseDeleted(new CourseDeletedEvent(2L));
+        assertThat(courseSearchService.search("spring boot", 10)).containsExactly(1L);
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#onLessonSaved(LessonSavedEvent)}
+     */
+    @Test
+    @DisplayName("Should add or replace a single lesson, keeping the other documents of the course")
+    void testOnLessonSaved() {
+        courseSearchService.onLessonSaved(new LessonSavedEvent(1L, new LessonDTO(1L, "Signals", "abcdefgh123")));
+        courseSearchService.onLessonSaved(new LessonSavedEvent(3L, new LessonDTO(9L, "Streams", "abcdefgh456")));
+
+        assertThat(courseSearchService.search("components", 10)).isEmpty();
+        assertThat(courseSearchService.search("signals", 10)).containsExactly(1L);
+        assertThat(courseSearchService.search("backend", 10)).containsExactly(1L);
+        assertThat(courseSearchService.search("streams", 10)).containsExactly(3L);
+    }
+
+    /**
+     * Method under test: {@link CourseSearchService#onLessonDeleted(LessonDeletedEvent)}
+     */
+    @Test
+    @DisplayName("Should remove a single lesson from the index")
+    void testOnLessonDeleted() {
+        courseSearchService.onLessonDeleted(new LessonDeletedEvent(1L, 2L));
+
+        assertThat(courseSearchService.search("backend", 10)).isEmpty();
+        assertThat(courseSearchService.search("angular", 10)).containsExactly(1L);
+    }
+}
@@ -1,5 +1,6 @@
 package com.loiane.integration;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.annotation.Import;
@@ -14,6 +15,9 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import java.io.IOException;
 
 import com.loiane.config.TestContainersConfiguration;
+import com.loiane.shared.metrics.QueryCounter;
+
+import jakarta.persistence.EntityManagerFactory;
 
 /**
  * Abstract base class for integration tests using TestContainers.
@@ -31,11 +35,20 @@ public abstract class AbstractIntegrationTest {
 
     protected RestTemplate restTemplate;
 
+    /**
+     * Counts the SQL statements of the requests sent with {@link #restTemplate}.
+     */
+    protected QueryCounter queryCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     void setUpRestTemplate() {
         restTemplate = new RestTemplate();
         restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:" + port));
         restTemplate.setErrorHandler(new NoOpResponseErrorHandler());
+        queryCounter = new QueryCounter(entityManagerFactory);
     }
 
     static class NoOpResponseErrorHandler implements ResponseErrorHandler {
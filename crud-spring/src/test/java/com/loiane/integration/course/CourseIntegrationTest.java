@@ -12,23 +12,37 @@ import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import com.loiane.course.Course;
+import com.loiane.course.CoursePageHttpMessageConverter;
 import com.loiane.course.CourseRepository;
 import com.loiane.course.CourseTestRepository;
+import com.loiane.course.LessonRepository;
+import com.loiane.course.dto.CourseBulkDeleteResultDTO;
 import com.loiane.course.dto.CourseDTO;
 import com.loiane.course.dto.CoursePageDTO;
 import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.CourseSliceDTO;
 import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.BulkOutcome;
 import com.loiane.course.enums.Status;
+import com.loiane.course.search.CourseSearchService;
 import com.loiane.integration.AbstractIntegrationTest;
 import com.loiane.shared.controller.ApplicationControllerAdvice.FieldValidationError;
 
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
 /**
  * Integration tests for Course API endpoints using TestContainers.
  * These tests run against a real MySQL database in a Docker container,
@@ -39,6 +53,32 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
 
     private static final String TEST_YOUTUBE_URL = "dQw4w9WgXcQ";
 
+    // Query budgets: the most SQL statements each request may run. They do not
+    // depend on the number of courses or lessons, which are loaded and written
+    // in batches; a request that starts loading lessons one course at a time
+    // goes over budget.
+    // courses, count (there is more than one page), lessons
+    private static final int FIND_ALL_BUDGET = 3;
+    // ids and versions, count: the version tag matches, nothing else is read
+    private static final int FIND_ALL_NOT_MODIFIED_BUDGET = 2;
+    // the course and its lessons; the version is only read for a conditional
+    // request
+    private static final int FIND_BY_ID_BUDGET = 2;
+    // matching courses and their lessons
+    private static final int FIND_BY_NAME_BUDGET = 2;
+    // course, lessons (the unique name is left to the constraint); plus up to
+    // two per id sequence (course and lesson) when its block of 50 ids runs
+    // out, as MySQL emulates sequences with a table (select for update, update)
+    private static final int CREATE_BUDGET = 6;
+    // course (locked), lessons, then course update, lesson insert and lesson
+    // delete, and the lesson sequence as for create
+    private static final int UPDATE_BUDGET = 7;
+    // course, lessons, lesson delete, soft delete of the course
+    private static final int DELETE_BUDGET = 4;
+    // active ids (locked), then one lesson delete and one soft delete of them
+    // all, per chunk of 500
+    private static final int BULK_DELETE_BUDGET = 3;
+
     /**
      * Subset of the RFC 7807 Problem Details response returned by the API,
      * including the custom "errors" property added for validation failures.
@@ -52,6 +92,12 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private CourseTestRepository courseTestRepository;
 
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private CourseSearchService courseSearchService;
+
     @AfterEach
     void cleanUp() {
         // Clean up database after each test to avoid data contamination
@@ -65,17 +111,18 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should retrieve all courses with pagination")
+    @DisplayName("Should retrieve a page of courses, and answer 304 when it has not changed")
     void testFindAllCourses() {
-        // Given - Create test data directly
+        // Given - Create test data directly: three pages of two courses
         createAndSaveCourseDirect("Java Fundamentals", "back-end");
         createAndSaveCourseDirect("Angular Fundamentals", "front-end");
         createAndSaveCourseDirect("Spring Boot", "back-end");
+        createAndSaveCourseDirect("Spring Data JPA", "back-end");
+        createAndSaveCourseDirect("Angular Forms", "front-end");
 
-        // When - Call the API
-        ResponseEntity<CoursePageDTO> response = restTemplate.getForEntity(
-                "/api/courses?page=0&size=10",
-                CoursePageDTO.class);
+        // When - Call the API for the middle page, so the count runs
+        ResponseEntity<CoursePageDTO> response = queryCounter.assertAtMost(FIND_ALL_BUDGET, "findAll",
+                () -> restTemplate.getForEntity("/api/courses?page=1&pageSize=2", CoursePageDTO.class));
 
         // Then - Verify the response
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -83,16 +130,98 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
 
         CoursePageDTO coursePageDTO = response.getBody();
         assertNotNull(coursePageDTO);
-        assertThat(coursePageDTO.courses()).isNotEmpty();
-        assertThat(coursePageDTO.totalElements()).isEqualTo(coursePageDTO.courses().size());
-        assertThat(coursePageDTO.totalPages()).isEqualTo(1);
+        assertThat(coursePageDTO.totalElements()).isEqualTo(5);
+        assertThat(coursePageDTO.totalPages()).isEqualTo(3);
 
-        // Verify the courses contain our test data
+        // Verify the page holds the third and fourth courses, in id order
         List<String> courseNames = coursePageDTO.courses().stream()
                 .map(CourseDTO::name)
                 .toList();
-        assertThat(courseNames).containsExactlyInAnyOrder(
-                "Java Fundamentals", "Angular Fundamentals", "Spring Boot");
+        assertThat(courseNames).containsExactly("Spring Boot", "Spring Data JPA");
+        assertThat(coursePageDTO.courses()).allSatisfy(course -> assertThat(course.lessons()).hasSize(1));
+
+        // When - Revalidate the page with its ETag
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(response.getHeaders().getETag());
+        ResponseEntity<CoursePageDTO> notModified = queryCounter.assertAtMost(FIND_ALL_NOT_MODIFIED_BUDGET,
+                "findAll (not modified)", () -> restTemplate.exchange("/api/courses?page=1&pageSize=2",
+                        HttpMethod.GET, new HttpEntity<>(headers), CoursePageDTO.class));
+
+        // Then - The page is not sent again
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("Should list the same courses on a page without totals as on the counted page")
+    void testFindSliceMatchesPage() {
+        // Given - Create test data directly: three pages of two courses
+        createAndSaveCourseDirect("Java Slices", "back-end");
+        createAndSaveCourseDirect("Angular Slices", "front-end");
+        createAndSaveCourseDirect("Spring Slices", "back-end");
+        createAndSaveCourseDirect("JPA Slices", "back-end");
+        createAndSaveCourseDirect("Forms Slices", "front-end");
+
+        // When - Call the API for the middle page, with and without the count
+        CoursePageDTO page = restTemplate.getForObject("/api/courses?page=1&pageSize=2", CoursePageDTO.class);
+        CourseSliceDTO slice = restTemplate.getForObject("/api/courses?count=false&page=1&pageSize=2",
+                CourseSliceDTO.class);
+
+        // Then - Both hold the third and fourth courses, in id order
+        assertThat(slice.courses()).extracting(CourseDTO::name).containsExactly("Spring Slices", "JPA Slices");
+        assertThat(slice.courses()).isEqualTo(page.courses());
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { MediaType.APPLICATION_CBOR_VALUE, CoursePageHttpMessageConverter.APPLICATION_SMILE_VALUE })
+    @DisplayName("Should retrieve the course page in a binary format when asked for it")
+    void testFindAllCoursesInBinaryFormat(String format) {
+        // Given - Create test data directly, named after the format since the
+        // clean up only soft deletes and the names stay taken
+        MediaType mediaType = MediaType.parseMediaType(format);
+        String suffix = MediaType.APPLICATION_CBOR.equals(mediaType) ? " in CBOR" : " in Smile";
+        createAndSaveCourseDirect("Java Fundamentals" + suffix, "back-end");
+        createAndSaveCourseDirect("Angular Fundamentals" + suffix, "front-end");
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(mediaType, MediaType.APPLICATION_JSON));
+
+        // When - Call the API, preferring the binary format over JSON
+        ResponseEntity<byte[]> response = restTemplate.exchange("/api/courses?page=0&pageSize=10", HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        // Then - Verify the response has the same shape as the JSON one
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).isEqualTo(mediaType);
+        assertThat(response.getHeaders().getVary()).contains(HttpHeaders.ACCEPT);
+        CoursePageDTO coursePageDTO = binaryMapper(mediaType).readValue(response.getBody(), CoursePageDTO.class);
+        assertThat(coursePageDTO.totalElements()).isEqualTo(2);
+        assertThat(coursePageDTO.courses()).extracting(CourseDTO::name)
+                .containsExactlyInAnyOrder("Java Fundamentals" + suffix, "Angular Fundamentals" + suffix);
+        assertThat(coursePageDTO.courses()).allSatisfy(course -> assertThat(course.lessons()).hasSize(1));
+    }
+
+    @Test
+    @DisplayName("Should create a course sent as CBOR and answer in CBOR")
+    void testCreateCourseInCbor() {
+        // Given - A valid course request encoded as CBOR
+        ObjectMapper cborMapper = binaryMapper(MediaType.APPLICATION_CBOR);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_CBOR);
+        headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+        byte[] body = cborMapper.writeValueAsBytes(createValidCourseRequest("Spring Data", "Back-end"));
+
+        // When - Call the API
+        ResponseEntity<byte[]> response = restTemplate.exchange(buildCourseUrl(""), HttpMethod.POST,
+                new HttpEntity<>(body, headers), byte[].class);
+
+        // Then - Verify the created course comes back in CBOR
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        CourseDTO createdCourse = cborMapper.readValue(response.getBody(), CourseDTO.class);
+        assertEquals("Spring Data", createdCourse.name());
+        assertThat(createdCourse.lessons()).extracting(LessonDTO::youtubeUrl).containsExactly(TEST_YOUTUBE_URL);
+        assertThat(courseRepository.findById(createdCourse.id())).isPresent();
     }
 
     @Test
@@ -103,7 +232,8 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
 
         // When - Call the API
         String url = buildCourseUrl("/" + savedCourse.getId());
-        ResponseEntity<CourseDTO> response = restTemplate.getForEntity(url, CourseDTO.class);
+        ResponseEntity<CourseDTO> response = queryCounter.assertAtMost(FIND_BY_ID_BUDGET, "findById",
+                () -> restTemplate.getForEntity(url, CourseDTO.class));
 
         // Then - Verify the response
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -135,7 +265,8 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
 
         // When - Call the API
         String url = buildCourseUrl("");
-        ResponseEntity<CourseDTO> response = restTemplate.postForEntity(url, courseRequest, CourseDTO.class);
+        ResponseEntity<CourseDTO> response = queryCounter.assertAtMost(CREATE_BUDGET, "create",
+                () -> restTemplate.postForEntity(url, courseRequest, CourseDTO.class));
 
         // Then - Verify the response
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -242,8 +373,8 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
         // When - Call the API
         String url = buildCourseUrl("/" + courseId);
         HttpEntity<CourseRequestDTO> requestEntity = new HttpEntity<>(updateRequest);
-        ResponseEntity<CourseDTO> response = restTemplate.exchange(
-                url, HttpMethod.PUT, requestEntity, CourseDTO.class);
+        ResponseEntity<CourseDTO> response = queryCounter.assertAtMost(UPDATE_BUDGET, "update",
+                () -> restTemplate.exchange(url, HttpMethod.PUT, requestEntity, CourseDTO.class));
 
         // Then - Verify the response
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -268,8 +399,8 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
 
         // When - Call the API
         String url = buildCourseUrl("/" + courseId);
-        ResponseEntity<Void> response = restTemplate.exchange(
-                url, HttpMethod.DELETE, null, Void.class);
+        ResponseEntity<Void> response = queryCounter.assertAtMost(DELETE_BUDGET, "delete",
+                () -> restTemplate.exchange(url, HttpMethod.DELETE, null, Void.class));
 
         // Then - Verify the response
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
@@ -280,15 +411,68 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
         assertEquals(Status.INACTIVE, deletedCourse.getStatus());
     }
 
+    @Test
+    @DisplayName("Should soft-delete courses by id in one statement and report each id")
+    void testBulkDeleteCourses() {
+        Long first = createAndSaveCourseDirect("Bulk Delete One", "Back-end").getId();
+        Long second = createAndSaveCourseDirect("Bulk Delete Two", "Front-end").getId();
+        Long kept = createAndSaveCourseDirect("Bulk Delete Kept", "Back-end").getId();
+        Long missing = kept + 1000;
+
+        String url = buildCourseUrl("/bulk-delete");
+        ResponseEntity<CourseBulkDeleteResultDTO[]> response = queryCounter.assertAtMost(BULK_DELETE_BUDGET,
+                "bulkDelete", () -> restTemplate.postForEntity(url, List.of(first, missing, second, first),
+                        CourseBulkDeleteResultDTO[].class));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertThat(response.getBody()).containsExactly(
+                new CourseBulkDeleteResultDTO(first, BulkOutcome.DELETED),
+                new CourseBulkDeleteResultDTO(missing, BulkOutcome.NOT_FOUND),
+                new CourseBulkDeleteResultDTO(second, BulkOutcome.DELETED));
+        assertThat(courseTestRepository.findByIdIgnoringRestriction(first)).get()
+                .extracting(Course::getStatus).isEqualTo(Status.INACTIVE);
+        assertThat(courseRepository.findById(second)).isEmpty();
+        assertThat(courseRepository.findById(kept)).isPresent();
+        // lessons are deleted, as with a single delete
+        assertThat(lessonRepository.countByCourseId(first)).isZero();
+        assertThat(lessonRepository.countByCourseId(kept)).isPositive();
+        // already deleted
+        assertThat(restTemplate.postForEntity(url, List.of(first), CourseBulkDeleteResultDTO[].class).getBody())
+                .containsExactly(new CourseBulkDeleteResultDTO(first, BulkOutcome.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should soft-delete every course of a category")
+    void testDeleteCategory() {
+        Long first = createAndSaveCourseDirect("Retired Course One", "Front-end").getId();
+        Long second = createAndSaveCourseDirect("Retired Course Two", "Front-end").getId();
+        Long kept = createAndSaveCourseDirect("Kept Back-end Course", "Back-end").getId();
+
+        String url = buildCourseUrl("?category=Front-end");
+        ResponseEntity<CourseBulkDeleteResultDTO[]> response = queryCounter.assertAtMost(BULK_DELETE_BUDGET,
+                "deleteCategory", () -> restTemplate.exchange(url, HttpMethod.DELETE, null,
+                        CourseBulkDeleteResultDTO[].class));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertThat(response.getBody()).contains(
+                new CourseBulkDeleteResultDTO(first, BulkOutcome.DELETED),
+                new CourseBulkDeleteResultDTO(second, BulkOutcome.DELETED));
+        assertThat(courseRepository.findById(first)).isEmpty();
+        assertThat(courseRepository.findById(kept)).isPresent();
+    }
+
     @Test
     @DisplayName("Should find courses by name")
     void testFindCourseByName() {
-        // Given - Save a course using repository
+        // Given - Save a course using repository; the search index only follows
+        // changes made through the service, so rebuild it
         createAndSaveCourseDirect("Findable Course", "Back-end");
+        courseSearchService.rebuild();
 
         // When - Search by name
         String url = buildCourseUrl("/searchByName?name=Findable Course");
-        ResponseEntity<CourseDTO[]> response = restTemplate.getForEntity(url, CourseDTO[].class);
+        ResponseEntity<CourseDTO[]> response = queryCounter.assertAtMost(FIND_BY_NAME_BUDGET, "findByName",
+                () -> restTemplate.getForEntity(url, CourseDTO[].class));
 
         // Then - Verify the response
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -358,6 +542,10 @@ class CourseIntegrationTest extends AbstractIntegrationTest {
         return courseRepository.saveAndFlush(course);
     }
 
+    private static ObjectMapper binaryMapper(MediaType mediaType) {
+        return MediaType.APPLICATION_CBOR.equals(mediaType) ? new CBORMapper() : new SmileMapper();
+    }
+
     private CourseRequestDTO createValidCourseRequest(String name, String category) {
         LessonDTO lesson = new LessonDTO(null, "Introduction", TEST_YOUTUBE_URL);
         return new CourseRequestDTO(name, category, List.of(lesson));
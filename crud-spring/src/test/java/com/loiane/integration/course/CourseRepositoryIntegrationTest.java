@@ -93,10 +93,8 @@ class CourseRepositoryIntegrationTest extends AbstractIntegrationTest {
 
         org.junit.jupiter.api.Assertions.assertThrows(
                 DataIntegrityViolationException.class,
-                () -> {
-                    courseRepository.save(duplicateCourse);
-                    entityManager.flush(); // Force the constraint violation
-                });
+                // flushed through the repository, which translates the exception
+                () -> courseRepository.saveAndFlush(duplicateCourse));
     }
 
     @Test
@@ -124,19 +122,18 @@ class CourseRepositoryIntegrationTest extends AbstractIntegrationTest {
     }
 
     @Test
-    @DisplayName("Should find course by name")
-    void testFindByName() {
+    @DisplayName("Should find the course names already in use")
+    void testFindExistingNames() {
         // Given - Save a course; flush so the native query can see the new row
         Course course = createCourse("Findable Course", Category.BACK_END);
         courseRepository.save(course);
         entityManager.flush();
 
-        // When - Find by name
-        List<Course> foundCourses = courseRepository.findByNameIgnoringRestriction("Findable Course");
+        // When - Look up used names
+        List<String> existingNames = courseRepository.findExistingNames(List.of("Findable Course", "Missing Course"));
 
-        // Then - Verify it was found
-        assertThat(foundCourses).hasSize(1);
-        assertEquals("Findable Course", foundCourses.get(0).getName());
+        // Then - Verify only the saved one was found
+        assertThat(existingNames).containsExactly("Findable Course");
     }
 
     @Test
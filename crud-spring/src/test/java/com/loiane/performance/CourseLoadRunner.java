@@ -0,0 +1,266 @@
+package com.loiane.performance;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import com.loiane.CrudSpringApplication;
+import com.loiane.course.CourseBulkService;
+import com.loiane.course.dto.CourseBulkResultDTO;
+import com.loiane.course.dto.CourseDTO;
+import com.loiane.course.dto.CourseRequestDTO;
+import com.loiane.course.dto.LessonDTO;
+import com.loiane.course.enums.Category;
+import com.loiane.course.search.CourseSearchService;
+import com.loiane.performance.LoadGenerator.Percentiles;
+import com.loiane.performance.RateLoadGenerator.Operation;
+import com.loiane.performance.RateLoadGenerator.OperationResult;
+import com.loiane.performance.RateLoadGenerator.Result;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Load test of the course endpoints: boots the application on the H2
+ * {@code test} profile, with a fixed latency per statement (see
+ * {@link SlowStatementsConfiguration}), creates a synthetic catalog, then
+ * sends a mix of {@code findAll}, {@code searchByName}, {@code findById},
+ * {@code create}, {@code update} and {@code delete} requests at a fixed rate
+ * (see {@link RateLoadGenerator}). Throughput, errors and latency percentiles
+ * of each operation are printed and written to a report without timestamps,
+ * so the reports of two builds can be diffed.
+ *
+ * <p>Runs with the {@code loadtest} profile, configured by {@code loadtest.*}
+ * system properties (see {@link Settings}):
+ * {@code ./mvnw -Ploadtest -DskipTests verify -Dloadtest.rate=300}. The
+ * arguments are passed to the application, e.g.
+ * {@code --spring.threads.virtual.enabled=true}.
+ *
+ * <p>Updates and reads go to the seeded courses; deletes go to the courses
+ * created by the load, so the catalog being read keeps its size.
+ */
+final class CourseLoadRunner {
+
+    private static final String[] TOPICS = { "Angular", "Spring Boot", "Java", "TypeScript", "Hibernate", "Kotlin",
+            "Docker", "Kubernetes", "React", "MySQL" };
+    private static final String[] LEVELS = { "Fundamentals", "in Practice", "Advanced Topics", "for Beginners",
+            "Masterclass" };
+    private static final String YOUTUBE_URL = "Fj3Zvf-N4bk";
+    private static final int PAGE_SIZE = 10;
+
+    /**
+     * {@code loadtest.*} system properties.
+     *
+     * @param rate requests started per second
+     * @param warmUp load sent before measuring
+     * @param duration load measured
+     * @param courses courses created before the load
+     * @param lessons lessons of each created or updated course
+     * @param statementLatency added to each SQL statement
+     * @param maxInFlight requests outstanding at most; later ones are dropped
+     * @param seed of the random operations and parameters
+     * @param mix weight of each operation
+     * @param report file the report is written to
+     */
+    record Settings(@DefaultValue("100") double rate, @DefaultValue("10s") Duration warmUp,
+            @DefaultValue("30s") Duration duration, @DefaultValue("1000") int courses,
+            @DefaultValue("10") int lessons, @DefaultValue("1ms") Duration statementLatency,
+            @DefaultValue("500") int maxInFlight, @DefaultValue("42") long seed, @DefaultValue Mix mix,
+            @DefaultValue("target/load-test/course-endpoints.txt") Path report) {
+    }
+
+    /**
+     * {@code loadtest.mix.*}: relative weight of each operation; reads
+     * dominate, as they do for a catalog.
+     */
+    record Mix(@DefaultValue("30") int findAll, @DefaultValue("15") int searchByName,
+            @DefaultValue("35") int findById, @DefaultValue("8") int create, @DefaultValue("8") int update,
+            @DefaultValue("4") int delete) {
+    }
+
+    private record SeededCourse(long id, String name) {
+    }
+
+    private final Settings settings;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final Queue<Long> deletableIds = new ConcurrentLinkedQueue<>();
+
+    private CourseLoadRunner(Settings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws IOException {
+        // devtools is on the test classpath; its restart would boot the application twice
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Settings settings = Binder.get(new StandardEnvironment()).bindOrCreate("loadtest", Settings.class);
+        new CourseLoadRunner(settings).run(args);
+    }
+
+    private void run(String[] applicationArgs) throws IOException {
+        String[] args = Stream.concat(Stream.of("--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:load-courses;DB_CLOSE_DELAY=-1",
+                "--loadtest.statement-latency=" + settings.statementLatency().toMillis() + "ms"),
+                Stream.of(applicationArgs)).toArray(String[]::new);
+        Result result;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                CrudSpringApplication.class, SlowStatementsConfiguration.class)
+                .profiles("test")
+                .run(args)) {
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            List<SeededCourse> courses = seed(context.getBean(CourseBulkService.class));
+            awaitSearchIndex(context.getBean(CourseSearchService.class));
+            result = new RateLoadGenerator(operations(baseUri, courses)).run(settings.rate(), settings.warmUp(),
+                    settings.duration(), settings.maxInFlight(), settings.seed());
+        }
+
+        String report = report(result, String.join(" ", applicationArgs));
+        System.out.print(report);
+        Path file = settings.report();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, report);
+    }
+
+    private List<SeededCourse> seed(CourseBulkService courseBulkService) {
+        List<SeededCourse> courses = new ArrayList<>(settings.courses());
+        for (int from = 0; from < settings.courses(); from += CourseBulkService.MAX_BULK_SIZE) {
+            List<CourseRequestDTO> requests = new ArrayList<>();
+            for (int i = from; i < Math.min(from + CourseBulkService.MAX_BULK_SIZE, settings.courses()); i++) {
+                String name = TOPICS[i % TOPICS.length] + " " + LEVELS[i / TOPICS.length % LEVELS.length]
+                        + " " + (i + 1);
+                requests.add(courseRequest(name, i % 2 == 0 ? Category.BACK_END : Category.FRONT_END, "Lesson"));
+            }
+            List<CourseBulkResultDTO> results = courseBulkService.createAll(requests);
+            for (int r = 0; r < results.size(); r++) {
+                if (results.get(r).id() == null) {
+                    throw new IllegalStateException("Could not seed " + requests.get(r).name() + ": "
+                            + results.get(r).outcome() + " " + results.get(r).message());
+                }
+                courses.add(new SeededCourse(results.get(r).id(), requests.get(r).name()));
+            }
+        }
+        return courses;
+    }
+
+    private static void awaitSearchIndex(CourseSearchService courseSearchService) {
+        long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (!courseSearchService.isReady()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("The search index was not built within a minute");
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<Operation> operations(URI baseUri, List<SeededCourse> courses) {
+        URI coursesUri = baseUri.resolve("/api/courses");
+        Mix mix = settings.mix();
+        int pages = Math.max(1, courses.size() / PAGE_SIZE);
+        return List.of(
+                new Operation("findAll", mix.findAll(), random -> get(
+                        URI.create(coursesUri + "?page=" + random.nextInt(pages) + "&pageSize=" + PAGE_SIZE))),
+                new Operation("searchByName", mix.searchByName(), random -> get(
+                        URI.create(coursesUri + "/searchByName?name=" + TOPICS[random.nextInt(TOPICS.length)]
+                                .replace(" ", "%20")))),
+                new Operation("findById", mix.findById(), random -> get(
+                        URI.create(coursesUri + "/" + pick(courses, random).id()))),
+                new Operation("create", mix.create(), random -> send("POST", coursesUri,
+                        courseRequest("Load Course " + createdCount.incrementAndGet(), category(random), "Lesson")),
+                        body -> deletableIds.add(jsonMapper.readValue(body, CourseDTO.class).id())),
+                new Operation("update", mix.update(), random -> {
+                    SeededCourse course = pick(courses, random);
+                    return send("PUT", URI.create(coursesUri + "/" + course.id()),
+                            courseRequest(course.name(), category(random), "Updated lesson"));
+                }),
+                new Operation("delete", mix.delete(), random -> {
+                    Long id = deletableIds.poll();
+                    return id == null ? null
+                            : HttpRequest.newBuilder(URI.create(coursesUri + "/" + id)).DELETE().build();
+                }));
+    }
+
+    private static SeededCourse pick(List<SeededCourse> courses, RandomGenerator random) {
+        return courses.get(random.nextInt(courses.size()));
+    }
+
+    private static Category category(RandomGenerator random) {
+        return random.nextBoolean() ? Category.BACK_END : Category.FRONT_END;
+    }
+
+    private CourseRequestDTO courseRequest(String name, Category category, String lessonPrefix) {
+        List<LessonDTO> lessons = new ArrayList<>(settings.lessons());
+        for (int j = 1; j <= settings.lessons(); j++) {
+            lessons.add(new LessonDTO(null, lessonPrefix + " " + j, YOUTUBE_URL));
+        }
+        return new CourseRequestDTO(name, category.getValue(), lessons);
+    }
+
+    private static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE).GET().build();
+    }
+
+    private HttpRequest send(String method, URI uri, CourseRequestDTO course) {
+        return HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(jsonMapper.writeValueAsBytes(course)))
+                .build();
+    }
+
+    private String report(Result result, String applicationArgs) {
+        StringBuilder report = new StringBuilder(String.format(
+                "%.0f req/s for %d s after %d s of warm-up, seed %d, at most %d in flight%n",
+                settings.rate(), settings.duration().toSeconds(), settings.warmUp().toSeconds(), settings.seed(),
+                settings.maxInFlight()));
+        report.append(String.format("%d courses of %d lessons, %d ms per statement%s%n", settings.courses(),
+                settings.lessons(), settings.statementLatency().toMillis(),
+                applicationArgs.isEmpty() ? "" : ", " + applicationArgs));
+        report.append(String.format("%-13s %8s %7s %7s %8s %8s %8s %8s %8s %8s%n", "operation", "requests",
+                "errors", "skipped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        double seconds = settings.duration().toNanos() / 1e9;
+        for (Map.Entry<String, OperationResult> operation : result.byOperation().entrySet()) {
+            OperationResult operationResult = operation.getValue();
+            appendRow(report, operation.getKey(), operationResult.latency(), operationResult.errors(),
+                    operationResult.skipped(), operationResult.latency().count() / seconds);
+        }
+        long skipped = result.byOperation().values().stream().mapToLong(OperationResult::skipped).sum();
+        appendRow(report, "all", result.overall(), result.errors(), skipped, result.requestsPerSecond());
+        report.append(String.format("dropped (too many in flight) %d%n", result.dropped()));
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String operation, Percentiles latency, long errors,
+            long skipped, double requestsPerSecond) {
+        report.append(String.format("%-13s %8d %7d %7d %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n", operation,
+                latency.count(), errors, skipped, requestsPerSecond, latency.p50Millis(), latency.p90Millis(),
+                latency.p99Millis(), latency.p999Millis(), latency.maxMillis()));
+    }
+}
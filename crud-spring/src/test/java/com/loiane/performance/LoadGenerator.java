@@ -0,0 +1,118 @@
+package com.loiane.performance;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load: a fixed number of clients, each sending its next
+ * request as soon as the previous one completes, cycling through the given
+ * operations. Latencies recorded during the warm-up are discarded.
+ */
+final class LoadGenerator {
+
+    record Operation(String name, String path) {
+    }
+
+    record Percentiles(long count, double p50Millis, double p90Millis, double p99Millis, double p999Millis,
+            double maxMillis) {
+
+        static Percentiles of(long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return new Percentiles(sorted.length, millis(sorted, 0.50), millis(sorted, 0.90),
+                    millis(sorted, 0.99), millis(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double millis(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+
+    record Result(long errors, double requestsPerSecond, Percentiles overall, Map<String, Percentiles> byOperation) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final URI baseUri;
+    private final List<Operation> operations;
+
+    LoadGenerator(URI baseUri, List<Operation> operations) {
+        this.baseUri = baseUri;
+        this.operations = List.copyOf(operations);
+    }
+
+    Result run(int clients, Duration warmUp, Duration measurement) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+        List<List<long[]>> samples = new ArrayList<>(clients); // per client: {operation, nanos}
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                List<long[]> clientSamples = new ArrayList<>();
+                samples.add(clientSamples);
+                int offset = c;
+                executor.execute(() -> {
+                    for (int i = offset; System.nanoTime() < measureUntil; i++) {
+                        int operation = i % operations.size();
+                        long sent = System.nanoTime();
+                        boolean ok = send(operations.get(operation));
+                        long received = System.nanoTime();
+                        if (sent >= measureFrom && received <= measureUntil) {
+                            clientSamples.add(new long[] { operation, received - sent });
+                            if (!ok) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+        }
+        return summarize(samples, errors.get(), measurement);
+    }
+
+    private boolean send(Operation operation) {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(operation.path())).GET().build();
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Result summarize(List<List<long[]>> samples, long errors, Duration measurement) {
+        List<long[]> all = samples.stream().flatMap(List::stream).toList();
+        Map<String, Percentiles> byOperation = new LinkedHashMap<>();
+        for (int o = 0; o < operations.size(); o++) {
+            int operation = o;
+            byOperation.put(operations.get(o).name(), Percentiles.of(all.stream()
+                    .filter(sample -> sample[0] == operation).mapToLong(sample -> sample[1]).toArray()));
+        }
+        Percentiles overall = Percentiles.of(all.stream().mapToLong(sample -> sample[1]).toArray());
+        return new Result(errors, all.size() / (measurement.toNanos() / 1e9), overall, byOperation);
+    }
+}
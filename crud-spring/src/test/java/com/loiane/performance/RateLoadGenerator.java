@@ -0,0 +1,172 @@
+package com.loiane.performance;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import com.loiane.performance.LoadGenerator.Percentiles;
+
+/**
+ * Open-loop HTTP load: requests are started at a fixed rate whatever the
+ * response times, each operation picked at random by its weight. Unlike
+ * {@link LoadGenerator}, a slow server does not slow the load down, and the
+ * latency of a request is measured from when it was due, not from when it
+ * was sent, so a stall of the generator or of the server shows in the
+ * percentiles instead of hiding as fewer samples.
+ *
+ * <p>At most {@code maxInFlight} requests are outstanding; a request due
+ * beyond that is dropped and counted, as when the server cannot keep up with
+ * the rate.
+ */
+final class RateLoadGenerator {
+
+    /**
+     * An operation of the workload. {@code request} builds the next request,
+     * or returns {@code null} when there is nothing to send (the request is
+     * then counted as skipped); {@code onSuccess} gets the body of each
+     * successful response.
+     */
+    record Operation(String name, int weight, Function<RandomGenerator, HttpRequest> request,
+            Consumer<String> onSuccess) {
+
+        Operation(String name, int weight, Function<RandomGenerator, HttpRequest> request) {
+            this(name, weight, request, body -> {
+            });
+        }
+    }
+
+    record OperationResult(Percentiles latency, long errors, long skipped) {
+    }
+
+    record Result(long sent, long errors, long dropped, double requestsPerSecond, Percentiles overall,
+            Map<String, OperationResult> byOperation) {
+    }
+
+    private record Sample(int operation, long nanos, boolean ok) {
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    private final List<Operation> operations;
+    private final int[] cumulativeWeights;
+
+    RateLoadGenerator(List<Operation> operations) {
+        this.operations = List.copyOf(operations);
+        this.cumulativeWeights = new int[operations.size()];
+        int total = 0;
+        for (int o = 0; o < operations.size(); o++) {
+            total += operations.get(o).weight();
+            cumulativeWeights[o] = total;
+        }
+    }
+
+    Result run(double requestsPerSecond, Duration warmUp, Duration measurement, int maxInFlight, long seed) {
+        long interval = (long) (1e9 / requestsPerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmUp.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+        RandomGenerator random = new SplittableRandom(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Queue<Sample> samples = new ConcurrentLinkedQueue<>();
+        long[] skipped = new long[operations.size()];
+        AtomicLong dropped = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long due = start; due < measureUntil; due += interval) {
+                LockSupport.parkNanos(due - System.nanoTime());
+                boolean measured = due >= measureFrom;
+                int operation = pick(random);
+                // built on the scheduling thread, so the random choices
+                // depend on the seed only
+                HttpRequest request = operations.get(operation).request().apply(random);
+                if (request == null) {
+                    if (measured) {
+                        skipped[operation]++;
+                    }
+                } else if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        dropped.incrementAndGet();
+                    }
+                } else {
+                    long dueAt = due;
+                    executor.execute(() -> {
+                        try {
+                            boolean ok = send(operations.get(operation), request);
+                            if (measured) {
+                                samples.add(new Sample(operation, System.nanoTime() - dueAt, ok));
+                            }
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            }
+        }
+        return summarize(List.copyOf(samples), skipped, dropped.get(), measurement);
+    }
+
+    private int pick(RandomGenerator random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int operation = 0;
+        while (value >= cumulativeWeights[operation]) {
+            operation++;
+        }
+        return operation;
+    }
+
+    private boolean send(Operation operation, HttpRequest request) {
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                return false;
+            }
+            operation.onSuccess().accept(response.body());
+            return true;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Result summarize(List<Sample> samples, long[] skipped, long dropped, Duration measurement) {
+        Map<String, OperationResult> byOperation = new LinkedHashMap<>();
+        long errors = 0;
+        for (int o = 0; o < operations.size(); o++) {
+            List<Sample> operationSamples = new ArrayList<>();
+            for (Sample sample : samples) {
+                if (sample.operation() == o) {
+                    operationSamples.add(sample);
+                }
+            }
+            long operationErrors = operationSamples.stream().filter(sample -> !sample.ok()).count();
+            errors += operationErrors;
+            byOperation.put(operations.get(o).name(), new OperationResult(
+                    Percentiles.of(operationSamples.stream().mapToLong(Sample::nanos).toArray()),
+                    operationErrors, skipped[o]));
+        }
+        Percentiles overall = Percentiles.of(samples.stream().mapToLong(Sample::nanos).toArray());
+        return new Result(samples.size(), errors, dropped, samples.size() / (measurement.toNanos() / 1e9),
+                overall, byOperation);
+    }
+}
@@ -0,0 +1,100 @@
+package com.loiane.performance;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Makes the in-memory H2 database behave like a remote one: every statement
+ * execution first sleeps for {@code loadtest.statement-latency}, holding its
+ * connection, as a network round trip to MySQL would.
+ *
+ * <p>Wraps the pool itself, inside any other data source wrapper.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+class SlowStatementsConfiguration {
+
+    @Bean
+    static BeanPostProcessor slowStatementsPostProcessor(Environment environment) {
+        Duration latency = Binder.get(environment).bind("loadtest.statement-latency", Duration.class)
+                .orElse(Duration.ofMillis(5));
+        return new SlowStatementsPostProcessor(latency);
+    }
+
+    private record SlowStatementsPostProcessor(Duration latency) implements BeanPostProcessor, PriorityOrdered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new SlowStatementsDataSource(dataSource, latency);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    static final class SlowStatementsDataSource extends DelegatingDataSource {
+
+        private final Duration latency;
+
+        SlowStatementsDataSource(DataSource targetDataSource, Duration latency) {
+            super(targetDataSource);
+            this.latency = latency;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return proxy(Connection.class, connection, (method, result) -> switch (method.getName()) {
+                case "createStatement" -> slow(Statement.class, (Statement) result);
+                case "prepareStatement" -> slow(PreparedStatement.class, (PreparedStatement) result);
+                case "prepareCall" -> slow(CallableStatement.class, (CallableStatement) result);
+                default -> result;
+            }, false);
+        }
+
+        private <T extends Statement> T slow(Class<T> type, T statement) {
+            return proxy(type, statement, (method, result) -> result, true);
+        }
+
+        private <T> T proxy(Class<T> type, T target, ResultMapper mapper, boolean delayExecution) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                    (proxy, method, args) -> {
+                        if (delayExecution && method.getName().startsWith("execute")) {
+                            Thread.sleep(latency);
+                        }
+                        try {
+                            return mapper.map(method, method.invoke(target, args));
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }));
+        }
+
+        @FunctionalInterface
+        private interface ResultMapper {
+            Object map(Method method, Object result);
+        }
+    }
+}
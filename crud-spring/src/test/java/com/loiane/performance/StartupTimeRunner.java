@@ -0,0 +1,173 @@
+package com.loiane.performance;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.StandardEnvironment;
+
+import com.loiane.performance.LoadGenerator.Percentiles;
+
+/**
+ * Time to first successful request: starts the application in a new JVM and
+ * measures from process start until {@code GET /api/courses} first answers
+ * {@code 200}, which includes the JVM start, the Spring context, Hibernate and
+ * the first request itself. Compares the ways the {@code fast-startup}
+ * profile can start the application: the executable jar, the extracted jar,
+ * the extracted jar with the AOT-generated bean definitions, and with the
+ * CDS archive of the training run on top.
+ *
+ * <p>Runs with the {@code fast-startup} profile, after the archive is built:
+ * {@code ./mvnw -Pfast-startup -DskipTests verify}. The arguments are passed
+ * to the application. The modes take turns, after one round that is not
+ * measured (disk cache), and the report is written to
+ * {@code target/startup/time-to-first-request.txt}.
+ */
+final class StartupTimeRunner {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * {@code startup.*} system properties.
+     *
+     * @param jar the executable jar
+     * @param directory where the jar is extracted, with the CDS archive
+     * @param runs measured starts of each mode
+     * @param report file the report is written to
+     */
+    record Settings(Path jar, Path directory, @DefaultValue("5") int runs,
+            @DefaultValue("target/startup/time-to-first-request.txt") Path report) {
+    }
+
+    private record Mode(String name, Path jar, List<String> jvmArgs) {
+    }
+
+    private final Settings settings;
+    private final List<String> applicationArgs;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private StartupTimeRunner(Settings settings, List<String> applicationArgs) {
+        this.settings = settings;
+        this.applicationArgs = applicationArgs;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Settings settings = Binder.get(new StandardEnvironment()).bindOrCreate("startup", Settings.class);
+        new StartupTimeRunner(settings, List.of(args)).run();
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Path extractedJar = settings.directory().resolve(settings.jar().getFileName());
+        Path archive = settings.directory().resolve("application.jsa");
+        List<Mode> modes = List.of(
+                new Mode("jar", settings.jar(), List.of()),
+                new Mode("extracted", extractedJar, List.of()),
+                new Mode("extracted + AOT", extractedJar, List.of("-Dspring.aot.enabled=true")),
+                new Mode("extracted + AOT + CDS", extractedJar,
+                        List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive)));
+        Path logs = settings.report().toAbsolutePath().getParent();
+        Files.createDirectories(logs);
+
+        Map<Mode, long[]> times = new LinkedHashMap<>();
+        modes.forEach(mode -> times.put(mode, new long[settings.runs()]));
+        for (int run = -1; run < settings.runs(); run++) {
+            for (Mode mode : modes) {
+                long nanos = timeToFirstRequest(mode, logs.resolve(logName(mode)));
+                if (run >= 0) {
+                    times.get(mode)[run] = nanos;
+                }
+            }
+        }
+
+        String report = report(times);
+        System.out.print(report);
+        Files.writeString(settings.report(), report);
+    }
+
+    private long timeToFirstRequest(Mode mode, Path log) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArgs());
+        command.add("-jar");
+        command.add(mode.jar().toString());
+        command.add("--server.port=" + port);
+        command.addAll(applicationArgs);
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/courses?page=0&pageSize=10"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(log.toFile()).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode.name() + " exited with " + process.exitValue()
+                            + ", see " + log);
+                }
+                if (answers(request)) {
+                    return System.nanoTime() - start;
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException(mode.name() + " did not answer within " + TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private boolean answers(HttpRequest request) throws InterruptedException {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // not listening yet
+            return false;
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String logName(Mode mode) {
+        return mode.name().replace(" + ", "-").replace(' ', '-') + ".log";
+    }
+
+    private String report(Map<Mode, long[]> times) {
+        StringBuilder report = new StringBuilder(String.format(
+                "time to first successful GET /api/courses, %d runs of each mode, Java %s%n", settings.runs(),
+                Runtime.version()));
+        report.append(String.format("%-22s %10s %10s %10s%n", "mode", "median ms", "min ms", "max ms"));
+        for (Map.Entry<Mode, long[]> mode : times.entrySet()) {
+            long[] nanos = mode.getValue();
+            Percentiles percentiles = Percentiles.of(nanos);
+            double min = Arrays.stream(nanos).min().orElse(0) / 1e6;
+            report.append(String.format("%-22s %10.0f %10.0f %10.0f%n", mode.getKey().name(),
+                    percentiles.p50Millis(), min, percentiles.maxMillis()));
+        }
+        return report.toString();
+    }
+}
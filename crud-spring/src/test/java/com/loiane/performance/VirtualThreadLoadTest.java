@@ -0,0 +1,134 @@
+package com.loiane.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.loiane.CrudSpringApplication;
+import com.loiane.performance.LoadGenerator.Operation;
+import com.loiane.performance.LoadGenerator.Percentiles;
+import com.loiane.performance.LoadGenerator.Result;
+import com.loiane.shared.datasource.AdmissionControlledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs the same burst of concurrent clients against the application served by
+ * Tomcat's platform thread pool and by virtual threads, and compares
+ * throughput and latency percentiles. The H2 database gets a fixed latency
+ * per statement (see {@link SlowStatementsConfiguration}) so that requests
+ * block on "database I/O" the way they do against MySQL.
+ *
+ * <p>Takes about half a minute, so it only runs on request:
+ * {@code ./mvnw test -Dtest=VirtualThreadLoadTest -Dloadtest=true}. The
+ * report is printed and written to {@code target/load-test/virtual-threads.txt}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class VirtualThreadLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 400);
+    private static final int POOL_SIZE = 10;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    private static final List<Operation> OPERATIONS = List.of(
+            new Operation("course by id", "/api/courses/1"),
+            new Operation("course page", "/api/courses?page=0&pageSize=10"),
+            new Operation("lessons page", "/api/courses/2/lessons?page=0&pageSize=5"),
+            // no database access
+            new Operation("info", "/actuator/info"));
+
+    @Test
+    @DisplayName("Virtual threads should serve a burst without errors and queue for connections in admission control")
+    void compareThreadingModes() throws Exception {
+        Run platform = run(false);
+        Run virtual = run(true);
+
+        String report = report(platform, virtual);
+        System.out.print(report);
+        Path file = Path.of("target", "load-test", "virtual-threads.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+
+        assertThat(platform.result().errors()).isZero();
+        assertThat(virtual.result().errors()).isZero();
+        // admission control keeps the waiting in front of the pool
+        assertThat(virtual.admissionControlled()).isTrue();
+        assertThat(virtual.peakPoolWaiters()).isLessThanOrEqualTo(1);
+    }
+
+    private Run run(boolean virtualThreads) throws InterruptedException, SQLException {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                CrudSpringApplication.class, SlowStatementsConfiguration.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--management.endpoints.web.exposure.include=info")) {
+            URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+            DataSource dataSource = context.getBean(DataSource.class);
+            HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+
+            AtomicInteger peakPoolWaiters = new AtomicInteger();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(() -> peakPoolWaiters.accumulateAndGet(
+                    pool.getHikariPoolMXBean().getThreadsAwaitingConnection(), Math::max), 0, 10, TimeUnit.MILLISECONDS);
+            try {
+                Result result = new LoadGenerator(baseUri, OPERATIONS).run(CLIENTS, WARM_UP, MEASUREMENT);
+                return new Run(mode, result, peakPoolWaiters.get(),
+                        dataSource.isWrapperFor(AdmissionControlledDataSource.class));
+            } finally {
+                sampler.shutdownNow();
+            }
+        }
+    }
+
+    private static String report(Run... runs) {
+        StringBuilder report = new StringBuilder(String.format(
+                "%d clients, %d connections, %d s measured%n", CLIENTS, POOL_SIZE, MEASUREMENT.toSeconds()));
+        report.append(String.format("%-9s %-14s %10s %10s %10s %10s%n",
+                "threads", "operation", "req/s", "p50 ms", "p99 ms", "max ms"));
+        for (Run run : runs) {
+            Result result = run.result();
+            appendRow(report, run.mode(), "all", result.overall(), result.requestsPerSecond());
+            for (Map.Entry<String, Percentiles> operation : result.byOperation().entrySet()) {
+                appendRow(report, "", operation.getKey(), operation.getValue(),
+                        operation.getValue().count() / (double) MEASUREMENT.toSeconds());
+            }
+            report.append(String.format("%-9s errors %d, peak threads waiting inside the pool %d%n",
+                    "", result.errors(), run.peakPoolWaiters()));
+        }
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String mode, String operation, Percentiles percentiles,
+            double requestsPerSecond) {
+        report.append(String.format("%-9s %-14s %10.0f %10.1f %10.1f %10.1f%n", mode, operation,
+                requestsPerSecond, percentiles.p50Millis(), percentiles.p99Millis(), percentiles.maxMillis()));
+    }
+
+    private record Run(String mode, Result result, int peakPoolWaiters, boolean admissionControlled) {
+    }
+}
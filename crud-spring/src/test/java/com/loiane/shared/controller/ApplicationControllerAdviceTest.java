@@ -7,12 +7,17 @@ import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ProblemDetail;
+import org.springframework.transaction.CannotCreateTransactionException;
 
 import com.loiane.course.Course;
 import com.loiane.exception.BusinessException;
+import com.loiane.exception.InvalidCursorException;
 import com.loiane.exception.RecordNotFoundException;
+import com.loiane.shared.csv.CsvFormatException;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -37,6 +42,22 @@ class ApplicationControllerAdviceTest {
         assertEquals("Duplicate course", detail.getDetail());
     }
 
+    @Test
+    @DisplayName("Should return 400 Problem Detail for InvalidCursorException")
+    void testHandleInvalidCursorException() {
+        ProblemDetail detail = advice.handleInvalidCursorException(new InvalidCursorException("abc"));
+        assertEquals(400, detail.getStatus());
+        assertEquals("Invalid page cursor: abc", detail.getDetail());
+    }
+
+    @Test
+    @DisplayName("Should return 400 Problem Detail for CsvFormatException")
+    void testHandleCsvFormatException() {
+        ProblemDetail detail = advice.handleCsvFormatException(new CsvFormatException(3, "unterminated quoted field"));
+        assertEquals(400, detail.getStatus());
+        assertEquals("CSV line 3: unterminated quoted field", detail.getDetail());
+    }
+
     @Test
     @DisplayName("Should return 409 Problem Detail for DataIntegrityViolationException")
     void testHandleDataIntegrityViolationException() {
@@ -46,6 +67,27 @@ class ApplicationControllerAdviceTest {
         assertEquals("The operation conflicts with existing data", detail.getDetail());
     }
 
+    @Test
+    @DisplayName("Should return 409 Problem Detail for OptimisticLockingFailureException")
+    void testHandleOptimisticLockingFailureException() {
+        ProblemDetail detail = advice
+                .handleOptimisticLockingFailureException(new OptimisticLockingFailureException("stale version"));
+        assertEquals(409, detail.getStatus());
+        assertEquals("The record was modified concurrently, please reload it and try again", detail.getDetail());
+    }
+
+    @Test
+    @DisplayName("Should return 503 Problem Detail when no database connection is available")
+    void testHandleDatabaseUnavailable() {
+        ProblemDetail detail = advice.handleDatabaseUnavailable(
+                new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"));
+        assertEquals(503, detail.getStatus());
+        assertEquals("The service is temporarily unavailable, please try again later", detail.getDetail());
+
+        assertEquals(503, advice.handleDatabaseUnavailable(
+                new DataAccessResourceFailureException("Unable to acquire JDBC Connection")).getStatus());
+    }
+
     @Test
     @DisplayName("Should return 400 Problem Detail with field errors for ConstraintViolationException")
     void testHandleConstraintViolationException() {
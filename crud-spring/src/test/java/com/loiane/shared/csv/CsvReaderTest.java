@@ -0,0 +1,56 @@
+package com.loiane.shared.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CsvReaderTest {
+
+    /**
+     * Method under test: {@link CsvReader#readRecord()}
+     */
+    @Test
+    @DisplayName("Should read plain and quoted fields with LF and CRLF line endings")
+    void testReadRecord() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader(
+                "\uFEFFa,b,c\r\n\"x, y\",\"say \"\"hi\"\"\",\r\n\"multi\nline\",2,3\nlast,,"));
+
+        assertThat(csv.readRecord()).containsExactly("a", "b", "c");
+        assertThat(csv.getRecordLine()).isEqualTo(1);
+        assertThat(csv.readRecord()).containsExactly("x, y", "say \"hi\"", "");
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+        assertThat(csv.readRecord()).containsExactly("multi\nline", "2", "3");
+        assertThat(csv.getRecordLine()).isEqualTo(3);
+        assertThat(csv.readRecord()).containsExactly("last", "", "");
+        assertThat(csv.getRecordLine()).isEqualTo(5);
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should return a blank line as a single empty field")
+    void testReadBlankLine() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a\n\nb\n"));
+
+        assertThat(csv.readRecord()).containsExactly("a");
+        assertThat(csv.readRecord()).isEqualTo(List.of(""));
+        assertThat(csv.readRecord()).containsExactly("b");
+        assertThat(csv.readRecord()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a quoted field that is never closed")
+    void testUnterminatedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("ok\n\"open,field\n"));
+
+        assertThat(csv.readRecord()).containsExactly("ok");
+        assertThatThrownBy(csv::readRecord)
+                .isInstanceOf(CsvFormatException.class)
+                .hasMessage("CSV line 2: unterminated quoted field");
+    }
+}
@@ -0,0 +1,129 @@
+package com.loiane.shared.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class AdmissionControlledDataSourceTest {
+
+    private DataSource target;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    /**
+     * Method under test: {@link AdmissionControlledDataSource#getConnection()}
+     */
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed, and time out when none is left")
+    void testPermitHeldUntilClose() throws SQLException {
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(target, 2, Duration.ofMillis(20));
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        assertEquals(2, dataSource.getActive());
+        SQLTransientConnectionException e = assertThrows(SQLTransientConnectionException.class,
+                dataSource::getConnection);
+        assertTrue(e.getMessage().startsWith("No database connection available after 20 ms"), e.getMessage());
+
+        first.close();
+        first.close(); // a second close must not hand out an extra permit
+        assertEquals(1, dataSource.getActive());
+        verify(connection, times(1)).close();
+
+        dataSource.getConnection();
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        second.close();
+        assertEquals(1, dataSource.getActive());
+    }
+
+    @Test
+    @DisplayName("Should give the permit back when the target data source fails")
+    void testReleaseOnTargetFailure() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(target, 1, Duration.ofMillis(20));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActive());
+    }
+
+    @Test
+    @DisplayName("Should admit a waiting caller as soon as a connection is closed")
+    void testWaiterAdmittedOnClose() throws Exception {
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(target, 1, Duration.ofSeconds(10));
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (dataSource.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        held.close();
+
+        Connection admitted = waiter.get(5, TimeUnit.SECONDS);
+        assertSame(connection, ((ConnectionProxy) admitted).getTargetConnection());
+        assertEquals(1, dataSource.getActive());
+    }
+
+    @Test
+    @DisplayName("Should delegate other calls to the target connection")
+    void testDelegation() throws SQLException {
+        when(connection.getAutoCommit()).thenReturn(true);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(target, 1, Duration.ofMillis(20));
+
+        Connection admitted = dataSource.getConnection();
+
+        assertTrue(admitted.getAutoCommit());
+        assertEquals(admitted, admitted);
+        assertSame(dataSource, dataSource.unwrap(AdmissionControlledDataSource.class));
+    }
+
+    @Test
+    @DisplayName("Should close the pool it wraps")
+    void testClose() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+
+        new AdmissionControlledDataSource(pool, 1, Duration.ofMillis(20)).close();
+
+        verify(pool).close();
+    }
+
+    @Test
+    @DisplayName("Should reject fewer than one permit")
+    void testInvalidMaxConcurrent() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdmissionControlledDataSource(target, 0, Duration.ofSeconds(1)));
+    }
+}
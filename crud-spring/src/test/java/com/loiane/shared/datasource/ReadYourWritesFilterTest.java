@@ -0,0 +1,64 @@
+package com.loiane.shared.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    /**
+     * Method under test: {@link ReadYourWritesFilter#doFilter}
+     */
+    @Test
+    @DisplayName("Should send a write to the primary and set the cookie for the window")
+    void testWrite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean primary = filter(new MockHttpServletRequest("PUT", "/api/courses/1"), response);
+
+        assertThat(primary).isTrue();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE))
+                .startsWith(ReadYourWritesFilter.COOKIE + "=1")
+                .contains("Max-Age=5", "Path=/", "HttpOnly", "SameSite=Lax");
+        assertThat(ReadYourWrites.isPrimaryRequired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should send a read to the primary only while the client sends the cookie back")
+    void testRead() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(filter(new MockHttpServletRequest("GET", "/api/courses"), response)).isFalse();
+        assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).isNull();
+
+        MockHttpServletRequest afterWrite = new MockHttpServletRequest("GET", "/api/courses");
+        afterWrite.setCookies(new Cookie(ReadYourWritesFilter.COOKIE, "1"));
+        assertThat(filter(afterWrite, new MockHttpServletResponse())).isTrue();
+        assertThat(ReadYourWrites.isPrimaryRequired()).isFalse();
+    }
+
+    private boolean filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean primary = new AtomicBoolean();
+        filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                primary.set(ReadYourWrites.isPrimaryRequired());
+            }
+        }));
+        return primary.get();
+    }
+}
@@ -0,0 +1,136 @@
+package com.loiane.shared.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import com.loiane.shared.datasource.ReplicaDataSource.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+
+class ReplicaDataSourceTest {
+
+    private DataSource primary;
+    private DataSource first;
+    private DataSource second;
+    private Connection primaryConnection;
+    private Connection firstConnection;
+    private Connection secondConnection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        first = mock(DataSource.class);
+        second = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        firstConnection = mock(Connection.class);
+        secondConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(first.getConnection()).thenReturn(firstConnection);
+        when(second.getConnection()).thenReturn(secondConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clear();
+    }
+
+    /**
+     * Method under test: {@link ReplicaDataSource#getConnection()}
+     */
+    @Test
+    @DisplayName("Should take the replicas in turn with round-robin selection")
+    void testRoundRobin() throws SQLException {
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(first, second), Selection.ROUND_ROBIN);
+
+        assertEquals(firstConnection, target(dataSource.getConnection()));
+        assertEquals(secondConnection, target(dataSource.getConnection()));
+        assertEquals(firstConnection, target(dataSource.getConnection()));
+        assertEquals(2, dataSource.getActive(0));
+        assertEquals(1, dataSource.getActive(1));
+    }
+
+    @Test
+    @DisplayName("Should take the replica with the fewest connections in use with least-loaded selection")
+    void testLeastLoaded() throws SQLException {
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(first, second), Selection.LEAST_LOADED);
+
+        Connection held = dataSource.getConnection();
+        assertEquals(firstConnection, target(held));
+        Connection released = dataSource.getConnection();
+        assertEquals(secondConnection, target(released));
+        released.close();
+        released.close(); // counted once
+
+        // round-robin would be back on the first replica, which is still busy
+        assertEquals(secondConnection, target(dataSource.getConnection()));
+        assertEquals(secondConnection, target(dataSource.getConnection()));
+        held.close();
+        assertEquals(0, dataSource.getActive(0));
+        assertEquals(firstConnection, target(dataSource.getConnection()));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary when the client must read its own writes")
+    void testPrimaryRequired() throws SQLException {
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(first), Selection.ROUND_ROBIN);
+
+        ReadYourWrites.requirePrimary();
+
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(0, dataSource.getPrimaryFallbacks());
+    }
+
+    @Test
+    @DisplayName("Should skip a replica that is down, and fall back to the primary when all are")
+    void testFallback() throws SQLException {
+        when(first.getConnection()).thenThrow(new SQLException("replica down"));
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(first, second), Selection.ROUND_ROBIN);
+
+        assertEquals(secondConnection, target(dataSource.getConnection()));
+        assertEquals(secondConnection, target(dataSource.getConnection()));
+        assertEquals(0, dataSource.getPrimaryFallbacks());
+
+        when(second.getConnection()).thenThrow(new SQLException("replica down"));
+        assertSame(primaryConnection, dataSource.getConnection());
+        assertEquals(1, dataSource.getPrimaryFallbacks());
+    }
+
+    @Test
+    @DisplayName("Should close the replica pools")
+    void testClose() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+
+        new ReplicaDataSource(primary, List.of(first, pool), Selection.ROUND_ROBIN).close();
+
+        verify(pool).close();
+    }
+
+    @Test
+    @DisplayName("Should reject an empty replica list and per-call credentials")
+    void testInvalidUse() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReplicaDataSource(primary, List.of(), Selection.ROUND_ROBIN));
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, List.of(first), Selection.ROUND_ROBIN);
+        assertThrows(SQLFeatureNotSupportedException.class, () -> dataSource.getConnection("user", "secret"));
+    }
+
+    private static Connection target(Connection connection) {
+        return ((ConnectionProxy) connection).getTargetConnection();
+    }
+}
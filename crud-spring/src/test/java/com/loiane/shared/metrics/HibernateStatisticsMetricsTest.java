@@ -0,0 +1,64 @@
+package com.loiane.shared.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HibernateStatisticsMetricsTest {
+
+    /**
+     * Method under test: {@link HibernateStatisticsMetrics#bindTo(MeterRegistry)}
+     */
+    @Test
+    @DisplayName("Should publish Hibernate statistics as counters")
+    void testBindTo() {
+        Statistics statistics = mock(Statistics.class);
+        when(statistics.getEntityLoadCount()).thenReturn(12L);
+        when(statistics.getCollectionFetchCount()).thenReturn(3L);
+        when(statistics.getFlushCount()).thenReturn(2L);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new HibernateStatisticsMetrics(statistics).bindTo(registry);
+
+        assertThat(registry.get("hibernate.entities.loads").functionCounter().count()).isEqualTo(12);
+        assertThat(registry.get("hibernate.collections.fetches").functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("hibernate.flushes").functionCounter().count()).isEqualTo(2);
+        when(statistics.getFlushCount()).thenReturn(5L);
+        assertThat(registry.get("hibernate.flushes").functionCounter().count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should publish the lookups and hit ratio of each second-level cache region")
+    void testBindToCacheRegions() {
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics course = mock(CacheRegionStatistics.class);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[] { "course" });
+        when(statistics.getDomainDataRegionStatistics("course")).thenReturn(course);
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        new HibernateStatisticsMetrics(statistics).bindTo(registry);
+
+        assertThat(registry.get("hibernate.second.level.cache.hit.ratio").tag("region", "course").gauge().value())
+                .isZero();
+        when(course.getHitCount()).thenReturn(3L);
+        when(course.getMissCount()).thenReturn(1L);
+        when(course.getPutCount()).thenReturn(1L);
+        assertThat(registry.get("hibernate.second.level.cache.requests").tags("region", "course", "result", "hit")
+                .functionCounter().count()).isEqualTo(3);
+        assertThat(registry.get("hibernate.second.level.cache.requests").tags("region", "course", "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("hibernate.second.level.cache.puts").tag("region", "course")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("hibernate.second.level.cache.hit.ratio").tag("region", "course").gauge().value())
+                .isEqualTo(0.75);
+    }
+}
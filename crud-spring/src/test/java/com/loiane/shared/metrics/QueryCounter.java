@@ -0,0 +1,74 @@
+package com.loiane.shared.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the SQL statements that Hibernate runs while a block of code
+ * executes, along with the entity and collection loads behind them, so tests
+ * can hold an operation to a query budget. An N+1 problem shows up as a count
+ * that grows with the number of rows.
+ *
+ * <p>Counts are deltas of the session factory statistics
+ * ({@code hibernate.generate_statistics}). They include statements run on
+ * other threads, such as the server thread handling an HTTP request the test
+ * sends, so counted blocks must not run concurrently with other database work.
+ */
+public final class QueryCounter {
+
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            throw new IllegalStateException("Hibernate statistics are disabled (hibernate.generate_statistics)");
+        }
+    }
+
+    public <T> Counted<T> count(Supplier<T> block) {
+        QueryCount before = snapshot();
+        T result = block.get();
+        return new Counted<>(result, snapshot().minus(before));
+    }
+
+    public QueryCount count(Runnable block) {
+        return count(() -> {
+            block.run();
+            return null;
+        }).queries();
+    }
+
+    /**
+     * Runs the block and fails if it ran more than {@code maxStatements} SQL
+     * statements.
+     */
+    public <T> T assertAtMost(int maxStatements, String operation, Supplier<T> block) {
+        Counted<T> counted = count(block);
+        assertThat(counted.queries().statements())
+                .as("SQL statements for %s (%s)", operation, counted.queries())
+                .isLessThanOrEqualTo(maxStatements);
+        return counted.result();
+    }
+
+    private QueryCount snapshot() {
+        return new QueryCount(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(),
+                statistics.getCollectionLoadCount(), statistics.getCollectionFetchCount());
+    }
+
+    public record QueryCount(long statements, long entityLoads, long collectionLoads, long collectionFetches) {
+
+        QueryCount minus(QueryCount other) {
+            return new QueryCount(statements - other.statements, entityLoads - other.entityLoads,
+                    collectionLoads - other.collectionLoads, collectionFetches - other.collectionFetches);
+        }
+    }
+
+    public record Counted<T>(T result, QueryCount queries) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.loiane.shared.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class SqlStatementMetricsFilterTest {
+
+    private final SqlStatementCounter counter = new SqlStatementCounter();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, meterRegistry);
+
+    /**
+     * Method under test: {@link SqlStatementMetricsFilter#doFilter}
+     */
+    @Test
+    @DisplayName("Should record the statements of a request by uri template")
+    void testRecordsStatements() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), handler("/api/courses/{id}", 3));
+
+        DistributionSummary summary = meterRegistry.get(SqlStatementMetricsFilter.METRIC)
+                .tags("method", "GET", "uri", "/api/courses/{id}", "status", "200").summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        // statements after the request are not counted
+        assertThat(counter.inspect("select 1")).isEqualTo("select 1");
+        assertThat(summary.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should not record requests that no handler matched")
+    void testSkipsUnmatchedRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/unknown"), new MockHttpServletResponse(),
+                handler(null, 0));
+
+        assertThat(meterRegistry.find(SqlStatementMetricsFilter.METRIC).summaries()).isEmpty();
+    }
+
+    /**
+     * Method under test: {@link SqlStatementCounter#start()}
+     */
+    @Test
+    @DisplayName("Should count statements in the innermost open count only")
+    void testNestedCounts() {
+        try (SqlStatementCounter.Count outer = counter.start()) {
+            counter.inspect("select 1");
+            try (SqlStatementCounter.Count inner = counter.start()) {
+                counter.inspect("select 2");
+                counter.inspect("select 3");
+                assertThat(inner.getStatements()).isEqualTo(2);
+            }
+            counter.inspect("select 4");
+            assertThat(outer.getStatements()).isEqualTo(2);
+        }
+    }
+
+    /**
+     * A servlet that runs the given number of statements, with Spring MVC's
+     * matched pattern set as a handler would.
+     */
+    private MockFilterChain handler(String pattern, int statements) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                if (pattern != null) {
+                    request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+                }
+                for (int i = 0; i < statements; i++) {
+                    counter.inspect("select " + i);
+                }
+            }
+        });
+    }
+}
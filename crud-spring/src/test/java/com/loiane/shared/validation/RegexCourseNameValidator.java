@@ -0,0 +1,53 @@
+package com.loiane.shared.validation;
+
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The regex-based course name rules that {@link ValidCourseNameValidator}
+ * replaced, kept as an oracle for differential tests and as the baseline of
+ * the validation benchmark.
+ */
+public final class RegexCourseNameValidator {
+
+    private static final Pattern VALID_NAME_PATTERN = Pattern.compile("^[\\p{L}\\p{N}\\s\\-_.,()&+#]+$");
+    private static final Pattern EXCESSIVE_SPECIAL_CHARS = Pattern.compile("[^\\p{L}\\p{N}\\s]{3,}");
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile("\\s{3,}");
+    private static final Pattern STARTS_OR_ENDS_WITH_SPACE = Pattern.compile("(^\\s)|(\\s$)");
+    private static final Set<String> INAPPROPRIATE_WORDS = Set.of(
+            "dummy", "sample", "lorem", "ipsum", "asdf", "qwerty");
+
+    private RegexCourseNameValidator() {
+    }
+
+    /**
+     * Returns the message of the first rule the name breaks, or null if it is
+     * valid.
+     */
+    public static String check(String value) {
+        String trimmedValue = value.trim();
+        if (!VALID_NAME_PATTERN.matcher(trimmedValue).matches()) {
+            return "Course name contains invalid characters";
+        }
+        if (EXCESSIVE_SPECIAL_CHARS.matcher(trimmedValue).find()) {
+            return "Course name contains too many consecutive special characters";
+        }
+        if (MULTIPLE_SPACES.matcher(trimmedValue).find()) {
+            return "Course name contains excessive spaces";
+        }
+        if (STARTS_OR_ENDS_WITH_SPACE.matcher(value).find()) {
+            return "Course name cannot start or end with spaces";
+        }
+        boolean containsInappropriate = Stream.of(trimmedValue.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .anyMatch(INAPPROPRIATE_WORDS::contains);
+        if (containsInappropriate) {
+            return "Course name appears to contain test or placeholder content";
+        }
+        String[] words = trimmedValue.split("\\s+");
+        if (words.length == 1 && words[0].matches("\\d+")) {
+            return "Course name must contain meaningful text, not just numbers";
+        }
+        return null;
+    }
+}
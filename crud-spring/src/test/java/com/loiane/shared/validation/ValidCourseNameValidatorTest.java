@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -97,6 +99,39 @@ class ValidCourseNameValidatorTest {
         assertEquals("Course name must contain meaningful text, not just numbers", firstMessage(violations));
     }
 
+    @Test
+    @DisplayName("Should give the same result as the regex rules on edge cases")
+    void testSameAsRegexOnEdgeCases() {
+        List<String> names = List.of("", " ", "\t\n", "\u0001Spring Boot\u0001", "Spring Boot\n", " Spring\u0001",
+                "Spring\u000BBoot", "Spring\u00A0Boot", "Spring\u2028", "Spring Boot \u2028", "Kurs für Anfänger",
+                "日本語のコース", "\uD835\uDC00\uD835\uDC01 Math", "Course \uD835", "１２３４５", "12345", "123 45",
+                "Ⅻ Roman", "½ Course", "DUMMY course", "ſample course", "İPSUM course", "Lorem-Ipsum", "sample2",
+                "a--b", "a---b", "a - - b", "a -- - b", "a  b", "a   b", "a \t b", "(C#) & C++", "Spring @ Home!");
+        for (String name : names) {
+            assertEquals(RegexCourseNameValidator.check(name), ValidCourseNameValidator.check(name),
+                    () -> "name: " + name.codePoints().mapToObj(Integer::toHexString).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should give the same result as the regex rules on random names")
+    void testSameAsRegexOnRandomNames() {
+        String[] alphabet = { "a", "Z", "é", "ß", "日", "\uD835\uDC00", "0", "7", "٣", "½", " ", "\t", "\n", "\u000B",
+                "\u0001", "\u00A0", "-", "_", ".", ",", "(", ")", "&", "+", "#", "@", "!", "dummy", "Sample", "LOREM",
+                "asdf", "qwerty" };
+        Random random = new Random(42);
+        for (int n = 0; n < 50_000; n++) {
+            StringBuilder name = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                name.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String value = name.toString();
+            assertEquals(RegexCourseNameValidator.check(value), ValidCourseNameValidator.check(value),
+                    () -> "name: " + value.codePoints().mapToObj(Integer::toHexString).toList());
+        }
+    }
+
     // Test class for validation
     private static class TestClass {
         @ValidCourseName